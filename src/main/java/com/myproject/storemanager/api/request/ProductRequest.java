@@ -4,6 +4,7 @@ public class ProductRequest {
 
     private String name;
     private Double price;
+    private Long stock;
 
     public String getName() {
         return name;
@@ -20,4 +21,12 @@ public class ProductRequest {
     public void setPrice(Double price) {
         this.price = price;
     }
+
+    public Long getStock() {
+        return stock;
+    }
+
+    public void setStock(Long stock) {
+        this.stock = stock;
+    }
 }
@@ -0,0 +1,24 @@
+package com.myproject.storemanager.api.response;
+
+import com.myproject.storemanager.model.Product;
+
+import java.util.List;
+
+public class ProductBatchResponse {
+
+    private final List<Product> products;
+    private final List<Long> missingIds;
+
+    public ProductBatchResponse(List<Product> products, List<Long> missingIds) {
+        this.products = products;
+        this.missingIds = missingIds;
+    }
+
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+}
@@ -0,0 +1,50 @@
+package com.myproject.storemanager.api.response;
+
+import com.myproject.storemanager.model.ProductFieldSet;
+import com.myproject.storemanager.model.ProductView;
+
+import java.util.List;
+
+public class ProductViewResponse {
+
+    private final ProductFieldSet fields;
+    private final List<ProductView> products;
+    private final List<Long> missingIds;
+    private final boolean single;
+
+    private ProductViewResponse(ProductFieldSet fields, List<ProductView> products, List<Long> missingIds,
+                                boolean single) {
+        this.fields = fields;
+        this.products = products;
+        this.missingIds = missingIds;
+        this.single = single;
+    }
+
+    public static ProductViewResponse single(ProductFieldSet fields, ProductView product) {
+        return new ProductViewResponse(fields, List.of(product), null, true);
+    }
+
+    public static ProductViewResponse list(ProductFieldSet fields, List<ProductView> products) {
+        return new ProductViewResponse(fields, products, null, false);
+    }
+
+    public static ProductViewResponse batch(ProductFieldSet fields, List<ProductView> products, List<Long> missingIds) {
+        return new ProductViewResponse(fields, products, missingIds, false);
+    }
+
+    public ProductFieldSet getFields() {
+        return fields;
+    }
+
+    public List<ProductView> getProducts() {
+        return products;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public boolean isSingle() {
+        return single;
+    }
+}
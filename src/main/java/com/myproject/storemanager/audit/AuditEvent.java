@@ -0,0 +1,7 @@
+package com.myproject.storemanager.audit;
+
+import java.time.Instant;
+
+public record AuditEvent(Instant timestamp, AuditOperation operation, Long productId, String name, Double price,
+                         String actor) {
+}
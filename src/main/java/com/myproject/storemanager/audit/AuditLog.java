@@ -0,0 +1,350 @@
+package com.myproject.storemanager.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Append-only audit segments. Each segment is a pair of files: "<n>.log" holds the records
+// [length:int][crc32c:int][payload] and "<n>.idx" holds [productId:long][offset:long] entries
+// so the history of one product can be read without scanning the records. The index of the
+// active segment is in append order; when a segment is sealed it is rewritten sorted by product
+// ID as "<n>.sdx", so lookups in sealed segments are a binary search.
+class AuditLog implements Closeable {
+
+    private static final String LOG_SUFFIX = ".log";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String SORTED_INDEX_SUFFIX = ".sdx";
+    private static final int INDEX_ENTRY_SIZE = 16;
+    private static final int INDEX_READ_ENTRIES = 4096;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final AuditOperation[] OPERATIONS = AuditOperation.values();
+
+    private final Path directory;
+    private final long segmentSize;
+    private long segment;
+    private FileChannel log;
+    private FileChannel index;
+    private ByteBuffer logBuffer = ByteBuffer.allocateDirect(64 * 1024);
+    private ByteBuffer indexBuffer = ByteBuffer.allocateDirect(16 * 1024);
+
+    AuditLog(Path directory, long segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        List<Long> segments = listSegments();
+        // Seal segments left unsorted by a crash between rotation and sorting
+        for (int i = 0; i < segments.size() - 1; i++) {
+            seal(segments.get(i));
+        }
+        open(segments.isEmpty() ? 1 : segments.get(segments.size() - 1));
+    }
+
+    synchronized void append(List<AuditEvent> events) throws IOException {
+        if (log.size() >= segmentSize) {
+            closeSegment();
+            seal(segment);
+            open(segment + 1);
+        }
+
+        long offset = log.size();
+        logBuffer.clear();
+        indexBuffer.clear();
+        for (AuditEvent event : events) {
+            byte[] payload = encode(event);
+            logBuffer = ensureCapacity(logBuffer, RECORD_HEADER_SIZE + payload.length);
+            indexBuffer = ensureCapacity(indexBuffer, INDEX_ENTRY_SIZE);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            logBuffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+            indexBuffer.putLong(event.productId()).putLong(offset);
+            offset += RECORD_HEADER_SIZE + payload.length;
+        }
+
+        write(log, logBuffer);
+        write(index, indexBuffer);
+        // One fsync per drained batch rather than per event
+        log.force(false);
+        index.force(false);
+    }
+
+    List<AuditEvent> history(Long productId) throws IOException {
+        List<AuditEvent> events = new ArrayList<>();
+        for (Long segmentNumber : listSegments()) {
+            List<Long> offsets = findOffsets(segmentNumber, productId);
+            if (offsets.isEmpty()) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(directory.resolve(segmentName(segmentNumber) + LOG_SUFFIX),
+                    StandardOpenOption.READ)) {
+                for (Long offset : offsets) {
+                    events.add(readRecord(channel, offset));
+                }
+            }
+        }
+        return events;
+    }
+
+    private List<Long> findOffsets(long segmentNumber, long productId) throws IOException {
+        Path sortedIndexFile = directory.resolve(segmentName(segmentNumber) + SORTED_INDEX_SUFFIX);
+        if (!Files.exists(sortedIndexFile)) {
+            try {
+                return scanIndex(directory.resolve(segmentName(segmentNumber) + INDEX_SUFFIX), productId);
+            } catch (NoSuchFileException e) {
+                // Sealed since the check above
+                if (!Files.exists(sortedIndexFile)) {
+                    return List.of();
+                }
+            }
+        }
+        return searchSortedIndex(sortedIndexFile, productId);
+    }
+
+    // The active index is small (one segment) and unsorted, so it is scanned in fixed-size reads
+    private static List<Long> scanIndex(Path indexFile, long productId) throws IOException {
+        List<Long> offsets = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            long size = channel.size() / INDEX_ENTRY_SIZE * INDEX_ENTRY_SIZE;
+            ByteBuffer entries = ByteBuffer.allocate(INDEX_READ_ENTRIES * INDEX_ENTRY_SIZE);
+            for (long position = 0; position < size; position += entries.limit()) {
+                entries.clear().limit((int) Math.min(entries.capacity(), size - position));
+                readFully(channel, entries, position);
+                entries.flip();
+                while (entries.hasRemaining()) {
+                    long id = entries.getLong();
+                    long offset = entries.getLong();
+                    if (id == productId) {
+                        offsets.add(offset);
+                    }
+                }
+            }
+        }
+        return offsets;
+    }
+
+    private static List<Long> searchSortedIndex(Path sortedIndexFile, long productId) throws IOException {
+        List<Long> offsets = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(sortedIndexFile, StandardOpenOption.READ)) {
+            long count = channel.size() / INDEX_ENTRY_SIZE;
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+            // Lower bound: the first entry whose product ID is not below the one asked for
+            long low = 0;
+            long high = count;
+            while (low < high) {
+                long middle = (low + high) >>> 1;
+                entry.clear();
+                readFully(channel, entry, middle * INDEX_ENTRY_SIZE);
+                if (entry.getLong(0) < productId) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            for (long i = low; i < count; i++) {
+                entry.clear();
+                readFully(channel, entry, i * INDEX_ENTRY_SIZE);
+                if (entry.getLong(0) != productId) {
+                    break;
+                }
+                offsets.add(entry.getLong(8));
+            }
+        }
+        return offsets;
+    }
+
+    // Entries are appended in offset order, so a stable sort by product ID keeps each product's history in order.
+    // The sorted index is moved into place atomically before the unsorted one is removed.
+    private void seal(long segmentNumber) throws IOException {
+        Path indexFile = directory.resolve(segmentName(segmentNumber) + INDEX_SUFFIX);
+        Path sortedIndexFile = directory.resolve(segmentName(segmentNumber) + SORTED_INDEX_SUFFIX);
+        if (Files.exists(sortedIndexFile)) {
+            Files.deleteIfExists(indexFile);
+            return;
+        }
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+
+        ByteBuffer entries = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+        int count = entries.remaining() / INDEX_ENTRY_SIZE;
+        long[] productIds = new long[count];
+        long[] offsets = new long[count];
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            productIds[i] = entries.getLong();
+            offsets[i] = entries.getLong();
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> productIds[i]));
+
+        ByteBuffer sorted = ByteBuffer.allocate(count * INDEX_ENTRY_SIZE);
+        for (int i : order) {
+            sorted.putLong(productIds[i]).putLong(offsets[i]);
+        }
+        Path temporaryFile = directory.resolve(segmentName(segmentNumber) + SORTED_INDEX_SUFFIX + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(channel, sorted);
+            channel.force(true);
+        }
+        Files.move(temporaryFile, sortedIndexFile, StandardCopyOption.ATOMIC_MOVE);
+        Files.delete(indexFile);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (log.isOpen()) {
+            closeSegment();
+        }
+    }
+
+    private void open(long segmentNumber) throws IOException {
+        segment = segmentNumber;
+        Path logFile = directory.resolve(segmentName(segmentNumber) + LOG_SUFFIX);
+        Path indexFile = directory.resolve(segmentName(segmentNumber) + INDEX_SUFFIX);
+        log = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (Files.exists(indexFile)) {
+            repairIndex(logFile, indexFile);
+        }
+        index = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    // A crash can leave a partial entry at the end of the index, or entries whose record never fully
+    // reached the log. Both are cut off before appending, so new entries stay aligned.
+    private static void repairIndex(Path logFile, Path indexFile) throws IOException {
+        try (FileChannel indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileChannel logChannel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            long logSize = logChannel.size();
+            long end = indexChannel.size() / INDEX_ENTRY_SIZE * INDEX_ENTRY_SIZE;
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            while (end > 0) {
+                entry.clear();
+                readFully(indexChannel, entry, end - INDEX_ENTRY_SIZE);
+                long offset = entry.getLong(8);
+                if (offset >= 0 && offset + RECORD_HEADER_SIZE <= logSize) {
+                    header.clear();
+                    readFully(logChannel, header, offset);
+                    int length = header.getInt(0);
+                    if (length >= 0 && offset + RECORD_HEADER_SIZE + length <= logSize) {
+                        break;
+                    }
+                }
+                end -= INDEX_ENTRY_SIZE;
+            }
+            if (end < indexChannel.size()) {
+                indexChannel.truncate(end);
+                indexChannel.force(true);
+            }
+        }
+    }
+
+    private void closeSegment() throws IOException {
+        try (FileChannel closingLog = log; FileChannel closingIndex = index) {
+            closingLog.force(true);
+            closingIndex.force(true);
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(LOG_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - LOG_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private AuditEvent readRecord(FileChannel channel, long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        readFully(channel, header, offset);
+        header.flip();
+        int length = header.getInt();
+        int checksum = header.getInt();
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(channel, payload, offset + RECORD_HEADER_SIZE);
+        payload.flip();
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Corrupted audit record at offset " + offset + " in segment " + channel);
+        }
+        return decode(payload);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of audit segment");
+            }
+        }
+    }
+
+    private static byte[] encode(AuditEvent event) {
+        byte[] name = event.name() == null ? new byte[0] : event.name().getBytes(StandardCharsets.UTF_8);
+        byte[] actor = event.actor() == null ? new byte[0] : event.actor().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(8 + 1 + 8 + 1 + 8 + 4 + name.length + 4 + actor.length);
+        payload.putLong(event.timestamp().toEpochMilli())
+                .put((byte) event.operation().ordinal())
+                .putLong(event.productId())
+                .put((byte) ((event.price() != null ? 1 : 0) | (event.name() != null ? 2 : 0) | (event.actor() != null ? 4 : 0)))
+                .putDouble(event.price() != null ? event.price() : 0.0)
+                .putInt(name.length).put(name)
+                .putInt(actor.length).put(actor);
+        return payload.array();
+    }
+
+    private static AuditEvent decode(ByteBuffer payload) {
+        Instant timestamp = Instant.ofEpochMilli(payload.getLong());
+        AuditOperation operation = OPERATIONS[payload.get()];
+        long productId = payload.getLong();
+        byte flags = payload.get();
+        double price = payload.getDouble();
+        byte[] name = new byte[payload.getInt()];
+        payload.get(name);
+        byte[] actor = new byte[payload.getInt()];
+        payload.get(actor);
+        return new AuditEvent(timestamp, operation, productId,
+                (flags & 2) != 0 ? new String(name, StandardCharsets.UTF_8) : null,
+                (flags & 1) != 0 ? price : null,
+                (flags & 4) != 0 ? new String(actor, StandardCharsets.UTF_8) : null);
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private ByteBuffer ensureCapacity(ByteBuffer buffer, int needed) {
+        if (buffer.remaining() >= needed) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + needed));
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+
+    private static String segmentName(long segmentNumber) {
+        return String.format("%020d", segmentNumber);
+    }
+}
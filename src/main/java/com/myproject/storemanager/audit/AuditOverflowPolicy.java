@@ -0,0 +1,7 @@
+package com.myproject.storemanager.audit;
+
+public enum AuditOverflowPolicy {
+    BLOCK,
+    DROP,
+    CALLER_WRITES
+}
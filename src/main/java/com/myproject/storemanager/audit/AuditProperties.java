@@ -0,0 +1,75 @@
+package com.myproject.storemanager.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "storemanager.audit")
+public class AuditProperties {
+
+    private Path directory = Path.of("data", "audit");
+    private int bufferSize = 8192;
+    private int batchSize = 512;
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    private Duration idleWait = Duration.ofMillis(100);
+    private AuditOverflowPolicy overflowPolicy = AuditOverflowPolicy.BLOCK;
+    private Duration blockTimeout = Duration.ofSeconds(5);
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public DataSize getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(DataSize segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public Duration getIdleWait() {
+        return idleWait;
+    }
+
+    public void setIdleWait(Duration idleWait) {
+        this.idleWait = idleWait;
+    }
+
+    public AuditOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(AuditOverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public Duration getBlockTimeout() {
+        return blockTimeout;
+    }
+
+    public void setBlockTimeout(Duration blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+}
@@ -0,0 +1,152 @@
+package com.myproject.storemanager.audit;
+
+import com.myproject.storemanager.exception.AuditException;
+import com.myproject.storemanager.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@Service
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
+
+    private final AuditProperties properties;
+    private final AuditRingBuffer buffer;
+    private final AuditLog auditLog;
+    private final Thread writer;
+    private final Counter written;
+    private final Counter dropped;
+    private volatile boolean running = true;
+    private volatile boolean writerIdle;
+
+    public AuditService(AuditProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buffer = new AuditRingBuffer(properties.getBufferSize());
+        try {
+            this.auditLog = new AuditLog(properties.getDirectory(), properties.getSegmentSize().toBytes());
+        } catch (IOException e) {
+            throw new AuditException("Cannot open audit log in " + properties.getDirectory(), e);
+        }
+        this.written = Counter.builder("storemanager.audit.events").tag("outcome", "written").register(meterRegistry);
+        this.dropped = Counter.builder("storemanager.audit.events").tag("outcome", "dropped").register(meterRegistry);
+        Gauge.builder("storemanager.audit.backlog", buffer, AuditRingBuffer::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::writeLoop, "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public void record(AuditOperation operation, Product product) {
+        record(operation, product.getId(), product.getName(), product.getPrice());
+    }
+
+    public void record(AuditOperation operation, Long productId, String name, Double price) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        AuditEvent event = new AuditEvent(Instant.now(), operation, productId, name, price,
+                authentication != null ? authentication.getName() : null);
+
+        if (buffer.offer(event)) {
+            wakeWriter();
+            return;
+        }
+        switch (properties.getOverflowPolicy()) {
+            case BLOCK -> {
+                // Only wait while the writer can still drain the buffer, and never longer than the block timeout
+                long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+                while (!buffer.offer(event)) {
+                    if (!writer.isAlive()) {
+                        dropped.increment();
+                        throw new AuditException("Audit writer is not running, cannot record " + operation
+                                + " event for product with ID " + productId);
+                    }
+                    if (System.nanoTime() - deadline >= 0) {
+                        dropped.increment();
+                        throw new AuditException("Timed out waiting for audit buffer space to record " + operation
+                                + " event for product with ID " + productId);
+                    }
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                }
+                wakeWriter();
+            }
+            case DROP -> {
+                dropped.increment();
+                logger.warn("Audit buffer is full, dropped {} event for product with ID {}", operation, productId);
+            }
+            case CALLER_WRITES -> write(List.of(event));
+        }
+    }
+
+    public List<AuditEvent> history(Long productId) {
+        try {
+            return auditLog.history(productId);
+        } catch (IOException e) {
+            throw new AuditException("Error while reading audit history for product with ID " + productId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        try {
+            auditLog.close();
+        } catch (IOException e) {
+            logger.error("Error while closing audit log", e);
+        }
+    }
+
+    private void writeLoop() {
+        List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        long idleWait = properties.getIdleWait().toNanos();
+        while (running || buffer.size() > 0) {
+            buffer.drain(batch::add, properties.getBatchSize());
+            if (batch.isEmpty()) {
+                // Publish the idle flag before the last look at the buffer, so an event offered in
+                // between is either seen here or unparks the writer
+                writerIdle = true;
+                if (running && buffer.size() == 0) {
+                    LockSupport.parkNanos(idleWait);
+                }
+                writerIdle = false;
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void wakeWriter() {
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void write(List<AuditEvent> events) {
+        try {
+            auditLog.append(events);
+            written.increment(events.size());
+        } catch (IOException e) {
+            dropped.increment(events.size());
+            logger.error("Error while writing {} audit events", events.size(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.myproject.storemanager.controller;
+
+import com.myproject.storemanager.audit.AuditEvent;
+import com.myproject.storemanager.audit.AuditService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/audit")
+public class AuditController {
+
+    private final AuditService auditService;
+
+    public AuditController(AuditService auditService) {
+        this.auditService = auditService;
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<List<AuditEvent>> getAuditHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(auditService.history(id));
+    }
+}
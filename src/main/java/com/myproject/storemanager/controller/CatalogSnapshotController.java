@@ -0,0 +1,129 @@
+package com.myproject.storemanager.controller;
+
+import com.myproject.storemanager.exception.ProductNotFoundException;
+import com.myproject.storemanager.snapshot.CatalogSnapshotService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@RestController
+public class CatalogSnapshotController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private final CatalogSnapshotService catalogSnapshotService;
+
+    public CatalogSnapshotController(CatalogSnapshotService catalogSnapshotService) {
+        this.catalogSnapshotService = catalogSnapshotService;
+    }
+
+    @GetMapping("/products/snapshot")
+    public void downloadSnapshot(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path snapshot = catalogSnapshotService.latestSnapshot()
+                .orElseThrow(() -> new ProductNotFoundException("No catalog snapshot is available yet"));
+        String etag = "\"" + snapshot.getFileName() + "\"";
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = 0;
+            long end = size;
+
+            String range = request.getHeader(HttpHeaders.RANGE);
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            if (range != null && !range.contains(",") && (ifRange == null || ifRange.equals(etag))) {
+                long[] bounds = parseRange(range, size);
+                if (bounds == UNSATISFIABLE) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                if (bounds != null) {
+                    start = bounds[0];
+                    end = bounds[1];
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + size);
+                } else {
+                    response.setStatus(HttpServletResponse.SC_OK);
+                }
+            } else {
+                response.setStatus(HttpServletResponse.SC_OK);
+            }
+
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + snapshot.getFileName() + "\"");
+            response.setContentLengthLong(end - start);
+
+            // Let Tomcat stream the file with sendfile once the request completes; otherwise fall
+            // back to FileChannel.transferTo on the response stream.
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, snapshot.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end);
+                return;
+            }
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, out);
+            }
+        }
+    }
+
+    @PostMapping(value = "/admin/snapshot", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<String> restoreSnapshot(InputStream snapshot) {
+        long restored = catalogSnapshotService.restore(snapshot);
+        return ResponseEntity.ok("Restored " + restored + " products from snapshot");
+    }
+
+    // Returns null for a range that is not valid syntax, which RFC 9110 says to ignore and answer
+    // with the full file, and UNSATISFIABLE for a valid range that lies outside the file.
+    private long[] parseRange(String range, long size) {
+        if (!range.startsWith("bytes=")) {
+            return null;
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix < 0) {
+                    return null;
+                }
+                return suffix == 0 || size == 0 ? UNSATISFIABLE : new long[]{Math.max(0, size - suffix), size};
+            }
+            long start = Long.parseLong(first);
+            long lastPosition = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (lastPosition < start) {
+                return null;
+            }
+            return start >= size ? UNSATISFIABLE : new long[]{start, Math.min(size - 1, lastPosition) + 1};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.myproject.storemanager.controller;
+
+import com.myproject.storemanager.jfr.FlightRecorderService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@RestController
+public class FlightRecordingController {
+
+    private final FlightRecorderService flightRecorderService;
+
+    public FlightRecordingController(FlightRecorderService flightRecorderService) {
+        this.flightRecorderService = flightRecorderService;
+    }
+
+    @GetMapping("/admin/jfr")
+    public void dumpRecording(HttpServletResponse response) throws IOException {
+        Path dump = flightRecorderService.dump();
+        try {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"storemanager.jfr\"");
+            response.setContentLengthLong(Files.size(dump));
+            Files.copy(dump, response.getOutputStream());
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.myproject.storemanager.controller;
 
 import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.api.response.ProductBatchResponse;
+import com.myproject.storemanager.api.response.ProductViewResponse;
 import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.model.ProductFieldSet;
 import com.myproject.storemanager.service.ProductService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -24,16 +27,54 @@ public class ProductController {
         return ResponseEntity.ok(productService.findAll());
     }
 
+    @GetMapping(params = "fields")
+    public ResponseEntity<ProductViewResponse> getAllProducts(@RequestParam String fields) {
+        ProductFieldSet fieldSet = ProductFieldSet.parse(fields);
+        return ResponseEntity.ok(ProductViewResponse.list(fieldSet, productService.findAllViews(fieldSet)));
+    }
+
     @GetMapping("/id/{id}")
     public ResponseEntity<Product> getProductById(@PathVariable Long id) {
         return ResponseEntity.ok(productService.findById(id));
     }
 
+    @GetMapping(value = "/id/{id}", params = "fields")
+    public ResponseEntity<ProductViewResponse> getProductById(@PathVariable Long id, @RequestParam String fields) {
+        ProductFieldSet fieldSet = ProductFieldSet.parse(fields);
+        return ResponseEntity.ok(ProductViewResponse.single(fieldSet, productService.findViewById(id, fieldSet)));
+    }
+
+    @GetMapping("/ids")
+    public ResponseEntity<ProductBatchResponse> getProductsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(productService.findByIds(ids));
+    }
+
+    @GetMapping(value = "/ids", params = "fields")
+    public ResponseEntity<ProductViewResponse> getProductsByIds(@RequestParam List<Long> ids, @RequestParam String fields) {
+        return ResponseEntity.ok(productService.findViewsByIds(ids, ProductFieldSet.parse(fields)));
+    }
+
+    @PostMapping("/ids")
+    public ResponseEntity<ProductBatchResponse> getProductsByIdsInBody(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(productService.findByIds(ids));
+    }
+
+    @PostMapping(value = "/ids", params = "fields")
+    public ResponseEntity<ProductViewResponse> getProductsByIdsInBody(@RequestBody List<Long> ids, @RequestParam String fields) {
+        return ResponseEntity.ok(productService.findViewsByIds(ids, ProductFieldSet.parse(fields)));
+    }
+
     @GetMapping("/name/{name}")
     public ResponseEntity<List<Product>> getProductByName(@PathVariable String name) {
         return ResponseEntity.ok(productService.findByName(name));
     }
 
+    @GetMapping(value = "/name/{name}", params = "fields")
+    public ResponseEntity<ProductViewResponse> getProductByName(@PathVariable String name, @RequestParam String fields) {
+        ProductFieldSet fieldSet = ProductFieldSet.parse(fields);
+        return ResponseEntity.ok(ProductViewResponse.list(fieldSet, productService.findViewsByName(name, fieldSet)));
+    }
+
     @PostMapping
     public ResponseEntity<Product> addProduct(@RequestBody ProductRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(productService.addProduct(request));
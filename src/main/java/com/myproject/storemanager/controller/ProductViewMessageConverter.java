@@ -0,0 +1,105 @@
+package com.myproject.storemanager.controller;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myproject.storemanager.api.response.ProductViewResponse;
+import com.myproject.storemanager.model.ProductField;
+import com.myproject.storemanager.model.ProductView;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+// Writes sparse product views field by field straight to the response instead of going through
+// bean introspection, so only the requested fields are ever touched.
+@Component
+public class ProductViewMessageConverter extends AbstractHttpMessageConverter<ProductViewResponse> {
+
+    private final ObjectMapper objectMapper;
+
+    public ProductViewMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProductViewResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ProductViewResponse readInternal(Class<? extends ProductViewResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Product views are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ProductViewResponse response, HttpOutputMessage outputMessage) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+            List<ProductField> fields = response.getFields().getFields();
+            if (response.isSingle()) {
+                writeProduct(generator, fields, response.getProducts().get(0));
+            } else if (response.getMissingIds() == null) {
+                writeProducts(generator, fields, response.getProducts());
+            } else {
+                generator.writeStartObject();
+                generator.writeFieldName("products");
+                writeProducts(generator, fields, response.getProducts());
+                generator.writeFieldName("missingIds");
+                generator.writeStartArray();
+                for (Long id : response.getMissingIds()) {
+                    generator.writeNumber(id);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }
+    }
+
+    private void writeProducts(JsonGenerator generator, List<ProductField> fields, List<ProductView> products)
+            throws IOException {
+        generator.writeStartArray();
+        for (ProductView product : products) {
+            writeProduct(generator, fields, product);
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeProduct(JsonGenerator generator, List<ProductField> fields, ProductView product)
+            throws IOException {
+        generator.writeStartObject();
+        for (ProductField field : fields) {
+            generator.writeFieldName(field.getJsonName());
+            switch (field) {
+                case ID -> generator.writeNumber(product.id());
+                case NAME -> generator.writeString(product.name());
+                case PRICE -> {
+                    if (product.price() != null) {
+                        generator.writeNumber(product.price());
+                    } else {
+                        generator.writeNull();
+                    }
+                }
+                case STOCK -> {
+                    if (product.stock() != null) {
+                        generator.writeNumber(product.stock());
+                    } else {
+                        generator.writeNull();
+                    }
+                }
+            }
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,48 @@
+package com.myproject.storemanager.controller;
+
+import com.myproject.storemanager.stock.StockLevel;
+import com.myproject.storemanager.stock.StockReservation;
+import com.myproject.storemanager.stock.StockService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class StockController {
+
+    private final StockService stockService;
+
+    public StockController(StockService stockService) {
+        this.stockService = stockService;
+    }
+
+    @GetMapping("/products/{id}/stock")
+    public ResponseEntity<StockLevel> getStock(@PathVariable Long id) {
+        return ResponseEntity.ok(stockService.getStock(id));
+    }
+
+    @PostMapping("/products/{id}/reservations")
+    public ResponseEntity<StockReservation> reserve(@PathVariable Long id, @RequestParam long quantity) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(stockService.reserve(id, quantity));
+    }
+
+    @PostMapping("/products/reservations/{reservationId}/commit")
+    public ResponseEntity<StockReservation> commit(@PathVariable String reservationId) {
+        return ResponseEntity.ok(stockService.commit(reservationId));
+    }
+
+    @DeleteMapping("/products/reservations/{reservationId}")
+    public ResponseEntity<StockReservation> release(@PathVariable String reservationId) {
+        return ResponseEntity.ok(stockService.release(reservationId));
+    }
+
+    @PostMapping("/admin/stock/{id}")
+    public ResponseEntity<StockLevel> restock(@PathVariable Long id, @RequestParam long quantity) {
+        return ResponseEntity.ok(stockService.restock(id, quantity));
+    }
+}
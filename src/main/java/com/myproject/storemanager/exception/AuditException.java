@@ -0,0 +1,12 @@
+package com.myproject.storemanager.exception;
+
+public class AuditException extends RuntimeException {
+
+    public AuditException(String message) {
+        super(message);
+    }
+
+    public AuditException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.myproject.storemanager.exception;
+
+public class CatalogSnapshotException extends RuntimeException {
+
+    public CatalogSnapshotException(String message) {
+        super(message);
+    }
+
+    public CatalogSnapshotException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
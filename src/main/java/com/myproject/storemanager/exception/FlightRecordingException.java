@@ -0,0 +1,12 @@
+package com.myproject.storemanager.exception;
+
+public class FlightRecordingException extends RuntimeException {
+
+    public FlightRecordingException(String message) {
+        super(message);
+    }
+
+    public FlightRecordingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
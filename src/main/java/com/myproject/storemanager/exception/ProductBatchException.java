@@ -0,0 +1,8 @@
+package com.myproject.storemanager.exception;
+
+public class ProductBatchException extends RuntimeException {
+
+    public ProductBatchException(String message) {
+        super(message);
+    }
+}
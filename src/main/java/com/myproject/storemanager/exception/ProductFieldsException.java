@@ -0,0 +1,8 @@
+package com.myproject.storemanager.exception;
+
+public class ProductFieldsException extends RuntimeException {
+
+    public ProductFieldsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.myproject.storemanager.exception;
+
+public class StockQuantityException extends RuntimeException {
+
+    public StockQuantityException(String message) {
+        super(message);
+    }
+}
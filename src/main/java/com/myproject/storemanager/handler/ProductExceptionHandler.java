@@ -1,9 +1,18 @@
 package com.myproject.storemanager.handler;
 
+import com.myproject.storemanager.exception.AuditException;
+import com.myproject.storemanager.exception.CatalogSnapshotException;
+import com.myproject.storemanager.exception.FlightRecordingException;
+import com.myproject.storemanager.exception.InsufficientStockException;
+import com.myproject.storemanager.exception.ProductBatchException;
 import com.myproject.storemanager.exception.ProductDeleteException;
+import com.myproject.storemanager.exception.ProductFieldsException;
 import com.myproject.storemanager.exception.ProductNotFoundException;
 import com.myproject.storemanager.exception.ProductCreateException;
 import com.myproject.storemanager.exception.ProductUpdateException;
+import com.myproject.storemanager.exception.ReservationNotFoundException;
+import com.myproject.storemanager.exception.StockQuantityException;
+import com.myproject.storemanager.jfr.ProductExceptionEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -18,6 +27,7 @@ public class ProductExceptionHandler {
 
     @ExceptionHandler
     public ResponseEntity<String> handleProductCreateException(ProductCreateException e) {
+        ProductExceptionEvent.emit(e);
         if (e.getCause() != null) {
             logger.error(e.getMessage(), e);
         } else {
@@ -28,19 +38,86 @@ public class ProductExceptionHandler {
 
     @ExceptionHandler
     public ResponseEntity<String> handleProductUpdateException(ProductUpdateException e) {
+        ProductExceptionEvent.emit(e);
         logger.error(e.getMessage(), e);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
     }
 
     @ExceptionHandler
     public ResponseEntity<String> handleProductDeleteException(ProductDeleteException e) {
+        ProductExceptionEvent.emit(e);
         logger.error(e.getMessage(), e);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
     }
 
     @ExceptionHandler
     public ResponseEntity<String> handleProductNotFoundException(ProductNotFoundException e) {
+        ProductExceptionEvent.emit(e);
         logger.info(e.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
     }
+
+    @ExceptionHandler
+    public ResponseEntity<String> handleProductBatchException(ProductBatchException e) {
+        ProductExceptionEvent.emit(e);
+        logger.info(e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<String> handleProductFieldsException(ProductFieldsException e) {
+        ProductExceptionEvent.emit(e);
+        logger.info(e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<String> handleStockQuantityException(StockQuantityException e) {
+        ProductExceptionEvent.emit(e);
+        logger.info(e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<String> handleInsufficientStockException(InsufficientStockException e) {
+        ProductExceptionEvent.emit(e);
+        logger.info(e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<String> handleReservationNotFoundException(ReservationNotFoundException e) {
+        ProductExceptionEvent.emit(e);
+        logger.info(e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<String> handleCatalogSnapshotException(CatalogSnapshotException e) {
+        ProductExceptionEvent.emit(e);
+        if (e.getCause() != null) {
+            logger.error(e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+        logger.info(e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<String> handleFlightRecordingException(FlightRecordingException e) {
+        ProductExceptionEvent.emit(e);
+        if (e.getCause() != null) {
+            logger.error(e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+        logger.info(e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<String> handleAuditException(AuditException e) {
+        ProductExceptionEvent.emit(e);
+        logger.error(e.getMessage(), e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+    }
 }
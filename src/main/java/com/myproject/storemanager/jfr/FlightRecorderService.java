@@ -0,0 +1,77 @@
+package com.myproject.storemanager.jfr;
+
+import com.myproject.storemanager.exception.FlightRecordingException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+@Service
+@EnableConfigurationProperties(FlightRecorderProperties.class)
+public class FlightRecorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderService.class);
+
+    private final FlightRecorderProperties properties;
+    private Recording recording;
+
+    public FlightRecorderService(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try {
+            Configuration configuration = properties.getSettings().endsWith(".jfc")
+                    ? Configuration.create(Path.of(properties.getSettings()))
+                    : Configuration.getConfiguration(properties.getSettings());
+            recording = new Recording(configuration);
+        } catch (IOException | ParseException e) {
+            throw new FlightRecordingException("Cannot load flight recorder settings: " + properties.getSettings(), e);
+        }
+
+        recording.setName("storemanager");
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        recording.enable(ProductOperationEvent.class).withThreshold(properties.getEventThreshold());
+        recording.enable(RepositoryCallEvent.class).withThreshold(properties.getEventThreshold());
+        recording.enable(ProductExceptionEvent.class);
+        recording.start();
+        logger.info("Started flight recording with '{}' settings", properties.getSettings());
+    }
+
+    public synchronized Path dump() {
+        if (recording == null) {
+            throw new FlightRecordingException("Flight recording is not enabled (storemanager.jfr.enabled)");
+        }
+        try {
+            Path file = Files.createTempFile("storemanager-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new FlightRecordingException("Error while dumping flight recording", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
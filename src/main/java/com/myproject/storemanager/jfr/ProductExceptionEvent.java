@@ -0,0 +1,29 @@
+package com.myproject.storemanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("storemanager.ProductException")
+@Label("Product Exception")
+@Description("An exception mapped to an HTTP response by ProductExceptionHandler")
+@Category({"StoreManager", "Products"})
+public class ProductExceptionEvent extends Event {
+
+    @Label("Exception Type")
+    private String exceptionType;
+
+    @Label("Message")
+    private String message;
+
+    public static void emit(Throwable exception) {
+        ProductExceptionEvent event = new ProductExceptionEvent();
+        if (event.shouldCommit()) {
+            event.exceptionType = exception.getClass().getName();
+            event.message = exception.getMessage();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.myproject.storemanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("storemanager.ProductOperation")
+@Label("Product Operation")
+@Description("A ProductService operation")
+@Category({"StoreManager", "Products"})
+@StackTrace(false)
+public class ProductOperationEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Product ID")
+    private long productId = -1;
+
+    @Label("Query")
+    private String query;
+
+    @Label("Result Count")
+    private int resultCount;
+
+    private ProductOperationEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public static ProductOperationEvent start(String operation) {
+        ProductOperationEvent event = new ProductOperationEvent(operation);
+        event.begin();
+        return event;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId == null ? -1 : productId;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public void setResultCount(int resultCount) {
+        this.resultCount = resultCount;
+    }
+}
@@ -0,0 +1,30 @@
+package com.myproject.storemanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("storemanager.RepositoryCall")
+@Label("Repository Call")
+@Description("A call into ProductRepository, including the database round trip")
+@Category({"StoreManager", "Database"})
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Method")
+    private String method;
+
+    @Label("Shard")
+    private int shard;
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public void setShard(int shard) {
+        this.shard = shard;
+    }
+}
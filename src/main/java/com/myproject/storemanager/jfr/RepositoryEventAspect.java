@@ -0,0 +1,33 @@
+package com.myproject.storemanager.jfr;
+
+import com.myproject.storemanager.shard.ShardContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class RepositoryEventAspect {
+
+    @Around("target(com.myproject.storemanager.repository.ProductRepository)")
+    public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Integer shard = ShardContext.current();
+                event.setMethod(joinPoint.getSignature().getName());
+                event.setShard(shard == null ? 0 : shard);
+                event.commit();
+            }
+        }
+    }
+}
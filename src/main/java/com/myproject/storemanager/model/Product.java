@@ -1,18 +1,19 @@
 package com.myproject.storemanager.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 
 @Entity
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String name;
     private Double price;
+    // Only changed through StockService's delta updates so that entity saves never overwrite them
+    @Column(updatable = false)
+    private Long stock;
 
     public Product() {}
 
@@ -44,4 +45,12 @@ public class Product {
     public void setPrice(Double price) {
         this.price = price;
     }
+
+    public Long getStock() {
+        return stock;
+    }
+
+    public void setStock(Long stock) {
+        this.stock = stock;
+    }
 }
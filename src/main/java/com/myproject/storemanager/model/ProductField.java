@@ -0,0 +1,26 @@
+package com.myproject.storemanager.model;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+public enum ProductField {
+    ID("id"),
+    NAME("name"),
+    PRICE("price"),
+    STOCK("stock");
+
+    private final String attribute;
+    private final SerializedString jsonName;
+
+    ProductField(String attribute) {
+        this.attribute = attribute;
+        this.jsonName = new SerializedString(attribute);
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public SerializedString getJsonName() {
+        return jsonName;
+    }
+}
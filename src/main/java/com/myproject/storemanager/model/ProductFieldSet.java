@@ -0,0 +1,46 @@
+package com.myproject.storemanager.model;
+
+import com.myproject.storemanager.exception.ProductFieldsException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public class ProductFieldSet {
+
+    private final Set<ProductField> fields;
+    private final List<ProductField> ordered;
+
+    private ProductFieldSet(Set<ProductField> fields) {
+        this.fields = fields;
+        this.ordered = List.copyOf(fields);
+    }
+
+    public static ProductFieldSet parse(String fields) {
+        Set<ProductField> parsed = EnumSet.noneOf(ProductField.class);
+        for (String field : fields.split(",")) {
+            String name = field.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(ProductField.values())
+                    .filter(candidate -> candidate.getAttribute().toLowerCase(Locale.ROOT).equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new ProductFieldsException("Unknown product field: " + field.trim())));
+        }
+        if (parsed.isEmpty()) {
+            throw new ProductFieldsException("At least one product field is required");
+        }
+        return new ProductFieldSet(parsed);
+    }
+
+    public boolean contains(ProductField field) {
+        return fields.contains(field);
+    }
+
+    public List<ProductField> getFields() {
+        return ordered;
+    }
+}
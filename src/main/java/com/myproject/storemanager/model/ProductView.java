@@ -0,0 +1,4 @@
+package com.myproject.storemanager.model;
+
+public record ProductView(Long id, String name, Double price, Long stock) {
+}
@@ -0,0 +1,11 @@
+package com.myproject.storemanager.repository;
+
+import com.myproject.storemanager.model.Product;
+
+import java.util.List;
+
+public interface ProductInsertRepository {
+    Product insert(Product product);
+
+    void insertAll(List<Product> products);
+}
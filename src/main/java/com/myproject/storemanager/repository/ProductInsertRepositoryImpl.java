@@ -0,0 +1,33 @@
+package com.myproject.storemanager.repository;
+
+import com.myproject.storemanager.model.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class ProductInsertRepositoryImpl implements ProductInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Ids are assigned up front by the shard router, so persist directly instead of
+    // letting save() merge (and select) an entity that already carries an id.
+    @Override
+    @Transactional
+    public Product insert(Product product) {
+        entityManager.persist(product);
+        return product;
+    }
+
+    // Flushes and detaches the batch so a long-running transaction does not keep every
+    // inserted entity in the persistence context.
+    @Override
+    @Transactional
+    public void insertAll(List<Product> products) {
+        products.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,15 @@
+package com.myproject.storemanager.repository;
+
+import com.myproject.storemanager.model.ProductFieldSet;
+import com.myproject.storemanager.model.ProductView;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductProjectionRepository {
+    List<ProductView> findAllViews(ProductFieldSet fields);
+
+    List<ProductView> findViewsByNameContainingIgnoreCase(String name, ProductFieldSet fields);
+
+    List<ProductView> findViewsByIdIn(Collection<Long> ids, ProductFieldSet fields);
+}
@@ -0,0 +1,80 @@
+package com.myproject.storemanager.repository;
+
+import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.model.ProductField;
+import com.myproject.storemanager.model.ProductFieldSet;
+import com.myproject.storemanager.model.ProductView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+// Selects only the requested columns (plus the id) as tuples, so no entities are loaded
+// into the persistence context and there is nothing to dirty-check.
+@Transactional(readOnly = true)
+public class ProductProjectionRepositoryImpl implements ProductProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductView> findAllViews(ProductFieldSet fields) {
+        return findViews(fields, null);
+    }
+
+    @Override
+    public List<ProductView> findViewsByNameContainingIgnoreCase(String name, ProductFieldSet fields) {
+        String pattern = "%" + EscapeCharacter.DEFAULT.escape(name.toUpperCase(Locale.ROOT)) + "%";
+        return findViews(fields, (criteriaBuilder, root) ->
+                criteriaBuilder.like(criteriaBuilder.upper(root.get("name")), pattern, EscapeCharacter.DEFAULT.getEscapeCharacter()));
+    }
+
+    @Override
+    public List<ProductView> findViewsByIdIn(Collection<Long> ids, ProductFieldSet fields) {
+        return findViews(fields, (criteriaBuilder, root) -> root.get("id").in(ids));
+    }
+
+    private List<ProductView> findViews(ProductFieldSet fields,
+                                        BiFunction<CriteriaBuilder, Root<Product>, Predicate> where) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get(ProductField.ID.getAttribute()).alias(ProductField.ID.getAttribute()));
+        for (ProductField field : fields.getFields()) {
+            if (field != ProductField.ID) {
+                selections.add(root.get(field.getAttribute()).alias(field.getAttribute()));
+            }
+        }
+        query.multiselect(selections);
+        if (where != null) {
+            query.where(where.apply(criteriaBuilder, root));
+        }
+        query.orderBy(criteriaBuilder.asc(root.get(ProductField.ID.getAttribute())));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(tuple -> new ProductView(
+                        tuple.get(ProductField.ID.getAttribute(), Long.class),
+                        fields.contains(ProductField.NAME) ? tuple.get(ProductField.NAME.getAttribute(), String.class) : null,
+                        fields.contains(ProductField.PRICE) ? tuple.get(ProductField.PRICE.getAttribute(), Double.class) : null,
+                        fields.contains(ProductField.STOCK) ? tuple.get(ProductField.STOCK.getAttribute(), Long.class) : null))
+                .collect(Collectors.toList());
+    }
+}
@@ -1,12 +1,28 @@
 package com.myproject.storemanager.repository;
 
 import com.myproject.storemanager.model.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
-    List<Product> findByNameContainingIgnoreCase(String name);
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductInsertRepository,
+        ProductProjectionRepository {
+    List<Product> findAllByOrderByIdAsc();
+
+    List<Product> findByNameContainingIgnoreCaseOrderByIdAsc(String name);
+
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("select max(p.id) from Product p")
+    Long findMaxId();
+
+    @Modifying
+    @Query("update Product p set p.stock = coalesce(p.stock, 0) + :delta where p.id = :id")
+    int addStock(@Param("id") Long id, @Param("delta") long delta);
 }
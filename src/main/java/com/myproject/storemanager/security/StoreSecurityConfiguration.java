@@ -1,5 +1,6 @@
 package com.myproject.storemanager.security;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -17,6 +18,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 
 @Configuration
+@EnableConfigurationProperties(StoreSecurityProperties.class)
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true, jsr250Enabled = true)
 public class StoreSecurityConfiguration {
@@ -33,9 +35,11 @@ public class StoreSecurityConfiguration {
                 .authorizeHttpRequests(authorizationManagerRequestMatcherRegistry ->
                         authorizationManagerRequestMatcherRegistry
                                 .requestMatchers(HttpMethod.GET, "/products/**").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/products/ids").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/products").hasRole("ADMIN")
                                 .requestMatchers(HttpMethod.PATCH, "/products/{id}").hasRole("ADMIN")
                                 .requestMatchers(HttpMethod.DELETE, "/products/{id}").hasRole("ADMIN")
+                                .requestMatchers("/admin/**").hasRole("ADMIN")
                                 .anyRequest().authenticated())
                 .httpBasic(Customizer.withDefaults())
                 .exceptionHandling(customizer -> customizer.accessDeniedHandler(accessDeniedHandler))
@@ -61,7 +65,7 @@ public class StoreSecurityConfiguration {
     }
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(StoreSecurityProperties properties) {
+        return new BCryptPasswordEncoder(properties.getBcryptStrength());
     }
 }
@@ -0,0 +1,18 @@
+package com.myproject.storemanager.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "storemanager.security")
+public class StoreSecurityProperties {
+
+    // BCrypt log rounds; every basic auth request pays for one hash at this cost
+    private int bcryptStrength = 10;
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        this.bcryptStrength = bcryptStrength;
+    }
+}
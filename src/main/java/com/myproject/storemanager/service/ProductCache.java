@@ -0,0 +1,59 @@
+package com.myproject.storemanager.service;
+
+import com.myproject.storemanager.model.Product;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@EnableConfigurationProperties(ProductBatchProperties.class)
+public class ProductCache {
+
+    private final Map<Long, Product> products;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProductCache(ProductBatchProperties properties) {
+        int maxEntries = properties.getCacheMaxEntries();
+        // Access order turns the map into an LRU: once full, the least recently read product is dropped
+        this.products = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Product> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public Product get(Long id) {
+        return products.get(id);
+    }
+
+    // Callers take the generation before loading from the database so that a product
+    // evicted by a concurrent write is not put back with its old values.
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(Product product, long loadedGeneration) {
+        if (generation.get() != loadedGeneration) {
+            return;
+        }
+        products.put(product.getId(), product);
+        if (generation.get() != loadedGeneration) {
+            products.remove(product.getId(), product);
+        }
+    }
+
+    public void evict(Long id) {
+        generation.incrementAndGet();
+        products.remove(id);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        products.clear();
+    }
+}
@@ -0,0 +1,131 @@
+package com.myproject.storemanager.service;
+
+import com.myproject.storemanager.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+@EnableConfigurationProperties(ProductSearchProperties.class)
+public class ProductSearchCoalescer {
+
+    private final Map<String, CompletableFuture<List<Product>>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CachedResult> results = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long cacheTtlNanos;
+    private final int cacheMaxEntries;
+    private final Counter executed;
+    private final Counter coalesced;
+    private final Counter cached;
+
+    public ProductSearchCoalescer(ProductSearchProperties properties, MeterRegistry meterRegistry) {
+        this.cacheTtlNanos = properties.getCacheTtl().toNanos();
+        this.cacheMaxEntries = properties.getCacheMaxEntries();
+        this.executed = searchCounter(meterRegistry, "executed");
+        this.coalesced = searchCounter(meterRegistry, "coalesced");
+        this.cached = searchCounter(meterRegistry, "cached");
+        Gauge.builder("storemanager.search.coalescing.ratio", this, ProductSearchCoalescer::coalescingRatio)
+                .description("Share of name searches answered without their own database query")
+                .register(meterRegistry);
+    }
+
+    // Concurrent searches for the same normalized query share one in-flight database call.
+    // The loader receives the normalized query, which is safe because the search ignores case.
+    public List<Product> search(String query, Function<String, List<Product>> loader) {
+        String key = query.toLowerCase(Locale.ROOT);
+
+        if (cacheTtlNanos > 0) {
+            CachedResult result = results.get(key);
+            if (result != null && result.expiresAt - System.nanoTime() > 0) {
+                cached.increment();
+                return result.products;
+            }
+        }
+
+        CompletableFuture<List<Product>> call = new CompletableFuture<>();
+        CompletableFuture<List<Product>> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        long startGeneration = generation.get();
+        try {
+            List<Product> products = loader.apply(key);
+            cache(key, products, startGeneration);
+            call.complete(products);
+            return products;
+        } catch (Throwable e) {
+            // Errors too, otherwise coalesced callers would wait on the future forever
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        inFlight.clear();
+        results.clear();
+    }
+
+    double coalescingRatio() {
+        double total = executed.count() + coalesced.count() + cached.count();
+        return total == 0 ? 0 : (coalesced.count() + cached.count()) / total;
+    }
+
+    private void cache(String key, List<Product> products, long startGeneration) {
+        if (cacheTtlNanos <= 0 || generation.get() != startGeneration) {
+            return;
+        }
+        if (results.size() >= cacheMaxEntries) {
+            long now = System.nanoTime();
+            results.values().removeIf(result -> result.expiresAt - now <= 0);
+            if (results.size() >= cacheMaxEntries) {
+                return;
+            }
+        }
+        CachedResult result = new CachedResult(List.copyOf(products), System.nanoTime() + cacheTtlNanos);
+        results.put(key, result);
+        // A write may have invalidated the cache while this result was being stored
+        if (generation.get() != startGeneration) {
+            results.remove(key, result);
+        }
+    }
+
+    private List<Product> await(CompletableFuture<List<Product>> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter searchCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("storemanager.search.requests")
+                .description("Product name searches by how they were answered")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record CachedResult(List<Product> products, long expiresAt) {}
+}
@@ -3,119 +3,366 @@ package com.myproject.storemanager.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.api.response.ProductBatchResponse;
+import com.myproject.storemanager.api.response.ProductViewResponse;
+import com.myproject.storemanager.audit.AuditOperation;
+import com.myproject.storemanager.audit.AuditService;
+import com.myproject.storemanager.exception.AuditException;
+import com.myproject.storemanager.exception.ProductBatchException;
 import com.myproject.storemanager.exception.ProductCreateException;
 import com.myproject.storemanager.exception.ProductDeleteException;
 import com.myproject.storemanager.exception.ProductNotFoundException;
 import com.myproject.storemanager.exception.ProductUpdateException;
+import com.myproject.storemanager.exception.StockQuantityException;
+import com.myproject.storemanager.jfr.ProductOperationEvent;
 import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.model.ProductFieldSet;
+import com.myproject.storemanager.model.ProductView;
 import com.myproject.storemanager.repository.ProductRepository;
+import com.myproject.storemanager.shard.ShardRouter;
+import com.myproject.storemanager.stock.StockService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class ProductService {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductService.class);
+    private static final Comparator<Product> BY_ID = Comparator.comparing(Product::getId);
+    private static final Comparator<ProductView> VIEW_BY_ID = Comparator.comparing(ProductView::id);
 
     private final ProductRepository productRepository;
     private final ObjectMapper objectMapper;
+    private final ShardRouter shardRouter;
+    private final ProductSearchCoalescer searchCoalescer;
+    private final ProductCache productCache;
+    private final ProductBatchProperties batchProperties;
+    private final AuditService auditService;
+    private final StockService stockService;
 
-    public ProductService(ProductRepository productRepository, ObjectMapper objectMapper) {
+    public ProductService(ProductRepository productRepository, ObjectMapper objectMapper, ShardRouter shardRouter,
+                          ProductSearchCoalescer searchCoalescer, ProductCache productCache,
+                          ProductBatchProperties batchProperties, AuditService auditService,
+                          StockService stockService) {
         this.productRepository = productRepository;
         this.objectMapper = objectMapper;
+        this.shardRouter = shardRouter;
+        this.searchCoalescer = searchCoalescer;
+        this.productCache = productCache;
+        this.batchProperties = batchProperties;
+        this.auditService = auditService;
+        this.stockService = stockService;
     }
 
     public List<Product> findAll() {
-        List<Product> products = productRepository.findAll();
-        if (products.isEmpty()) {
-            throw new ProductNotFoundException("There are no products in the database");
+        ProductOperationEvent event = ProductOperationEvent.start("findAll");
+        try {
+            List<Product> products = shardRouter.fanOut(productRepository::findAllByOrderByIdAsc, BY_ID);
+            event.setResultCount(products.size());
+            if (products.isEmpty()) {
+                throw new ProductNotFoundException("There are no products in the database");
+            }
+            logger.info("Fetched all products");
+            return products;
+        } finally {
+            event.commit();
         }
-        logger.info("Fetched all products");
-        return products;
     }
 
     public Product findById(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ProductNotFoundException(id));
+        ProductOperationEvent event = ProductOperationEvent.start("findById");
+        event.setProductId(id);
         try {
+            Product product = shardRouter.onShard(shardRouter.shardFor(id), () -> productRepository.findById(id))
+                    .orElseThrow(() -> new ProductNotFoundException(id));
+            event.setResultCount(1);
             String productJson = objectMapper.writeValueAsString(product);
             logger.info("Retrieved product: {}", productJson);
             return product;
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
+        } finally {
+            event.commit();
         }
     }
 
-    public List<Product> findByName(String name) {
-        List<Product> products = productRepository.findByNameContainingIgnoreCase(name);
-        if (products.isEmpty()) {
-            throw new ProductNotFoundException("No results for: " + name);
+    public ProductBatchResponse findByIds(List<Long> ids) {
+        ProductOperationEvent event = ProductOperationEvent.start("findByIds");
+        try {
+            Set<Long> requestedIds = requestedIds(ids);
+
+            Map<Long, Product> found = new HashMap<>();
+            Map<Integer, List<Long>> missesByShard = new HashMap<>();
+            for (Long id : requestedIds) {
+                Product cached = productCache.get(id);
+                if (cached != null) {
+                    found.put(id, cached);
+                } else {
+                    missesByShard.computeIfAbsent(shardRouter.shardFor(id), shard -> new ArrayList<>()).add(id);
+                }
+            }
+
+            long cacheGeneration = productCache.generation();
+            missesByShard.forEach((shard, shardIds) -> {
+                for (int from = 0; from < shardIds.size(); from += batchProperties.getChunkSize()) {
+                    List<Long> chunk = shardIds.subList(from, Math.min(shardIds.size(), from + batchProperties.getChunkSize()));
+                    for (Product product : shardRouter.onShard(shard, () -> productRepository.findAllById(chunk))) {
+                        found.put(product.getId(), product);
+                        productCache.put(product, cacheGeneration);
+                    }
+                }
+            });
+
+            List<Product> products = new ArrayList<>(found.size());
+            List<Long> missingIds = new ArrayList<>();
+            for (Long id : requestedIds) {
+                Product product = found.get(id);
+                if (product != null) {
+                    products.add(product);
+                } else {
+                    missingIds.add(id);
+                }
+            }
+            event.setResultCount(products.size());
+            logger.info("Retrieved {} of {} requested products", products.size(), requestedIds.size());
+            return new ProductBatchResponse(products, missingIds);
+        } finally {
+            event.commit();
+        }
+    }
+
+    public List<ProductView> findAllViews(ProductFieldSet fields) {
+        ProductOperationEvent event = ProductOperationEvent.start("findAllViews");
+        try {
+            List<ProductView> products = shardRouter.fanOut(() -> productRepository.findAllViews(fields), VIEW_BY_ID);
+            event.setResultCount(products.size());
+            if (products.isEmpty()) {
+                throw new ProductNotFoundException("There are no products in the database");
+            }
+            logger.info("Fetched all products with fields {}", fields.getFields());
+            return products;
+        } finally {
+            event.commit();
+        }
+    }
+
+    public ProductView findViewById(Long id, ProductFieldSet fields) {
+        ProductOperationEvent event = ProductOperationEvent.start("findViewById");
+        event.setProductId(id);
+        try {
+            List<ProductView> products = shardRouter.onShard(shardRouter.shardFor(id),
+                    () -> productRepository.findViewsByIdIn(List.of(id), fields));
+            if (products.isEmpty()) {
+                throw new ProductNotFoundException(id);
+            }
+            event.setResultCount(1);
+            logger.info("Retrieved product with ID {} and fields {}", id, fields.getFields());
+            return products.get(0);
+        } finally {
+            event.commit();
+        }
+    }
+
+    public ProductViewResponse findViewsByIds(List<Long> ids, ProductFieldSet fields) {
+        ProductOperationEvent event = ProductOperationEvent.start("findViewsByIds");
+        try {
+            Set<Long> requestedIds = requestedIds(ids);
+
+            Map<Integer, List<Long>> idsByShard = new HashMap<>();
+            for (Long id : requestedIds) {
+                idsByShard.computeIfAbsent(shardRouter.shardFor(id), shard -> new ArrayList<>()).add(id);
+            }
+            Map<Long, ProductView> found = new HashMap<>();
+            idsByShard.forEach((shard, shardIds) -> {
+                for (int from = 0; from < shardIds.size(); from += batchProperties.getChunkSize()) {
+                    List<Long> chunk = shardIds.subList(from, Math.min(shardIds.size(), from + batchProperties.getChunkSize()));
+                    for (ProductView product : shardRouter.onShard(shard, () -> productRepository.findViewsByIdIn(chunk, fields))) {
+                        found.put(product.id(), product);
+                    }
+                }
+            });
+
+            List<ProductView> products = new ArrayList<>(found.size());
+            List<Long> missingIds = new ArrayList<>();
+            for (Long id : requestedIds) {
+                ProductView product = found.get(id);
+                if (product != null) {
+                    products.add(product);
+                } else {
+                    missingIds.add(id);
+                }
+            }
+            event.setResultCount(products.size());
+            logger.info("Retrieved {} of {} requested products with fields {}", products.size(), requestedIds.size(),
+                    fields.getFields());
+            return ProductViewResponse.batch(fields, products, missingIds);
+        } finally {
+            event.commit();
+        }
+    }
+
+    public List<ProductView> findViewsByName(String name, ProductFieldSet fields) {
+        ProductOperationEvent event = ProductOperationEvent.start("findViewsByName");
+        event.setQuery(name);
+        try {
+            List<ProductView> products = shardRouter.fanOut(
+                    () -> productRepository.findViewsByNameContainingIgnoreCase(name, fields), VIEW_BY_ID);
+            event.setResultCount(products.size());
+            if (products.isEmpty()) {
+                throw new ProductNotFoundException("No results for: " + name);
+            }
+            logger.info("Retrieved {} products for: {} with fields {}", products.size(), name, fields.getFields());
+            return products;
+        } finally {
+            event.commit();
         }
+    }
+
+    public List<Product> findByName(String name) {
+        ProductOperationEvent event = ProductOperationEvent.start("findByName");
+        event.setQuery(name);
         try {
+            List<Product> products = searchCoalescer.search(name, query ->
+                    shardRouter.fanOut(() -> productRepository.findByNameContainingIgnoreCaseOrderByIdAsc(query), BY_ID));
+            event.setResultCount(products.size());
+            if (products.isEmpty()) {
+                throw new ProductNotFoundException("No results for: " + name);
+            }
             String productsJson = objectMapper.writeValueAsString(products);
             logger.info("Retrieved products: {}", productsJson);
             return products;
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
+        } finally {
+            event.commit();
         }
     }
 
     public Product addProduct(ProductRequest request) {
-        if (request.getName() == null || request.getName().trim().isEmpty()) {
-            throw new ProductCreateException("Product name cannot be empty");
-        }
-        if (request.getPrice() == null) {
-            throw new ProductCreateException("Product price cannot be empty");
-        }
+        ProductOperationEvent event = ProductOperationEvent.start("addProduct");
+        try {
+            if (request.getName() == null || request.getName().trim().isEmpty()) {
+                throw new ProductCreateException("Product name cannot be empty");
+            }
+            if (request.getPrice() == null) {
+                throw new ProductCreateException("Product price cannot be empty");
+            }
+            if (request.getStock() != null && request.getStock() < 0) {
+                throw new ProductCreateException("Product stock cannot be negative");
+            }
 
-        Product product = new Product(request.getName(), request.getPrice());
+            Product product = new Product(request.getName(), request.getPrice());
+            product.setStock(request.getStock() != null ? request.getStock() : 0L);
+            int shard = shardRouter.nextShard();
 
-        try {
-            Product savedProduct = productRepository.save(product);
-            String productJson = objectMapper.writeValueAsString(savedProduct);
-            logger.info("Successfully created product: {}", productJson);
+            Product savedProduct;
+            try {
+                product.setId(shardRouter.nextId(shard));
+                event.setProductId(product.getId());
+                savedProduct = shardRouter.onShard(shard, () -> productRepository.insert(product));
+                searchCoalescer.invalidate();
+            } catch (Exception e) {
+                throw new ProductCreateException("Error while creating product", e);
+            }
+            audit(AuditOperation.CREATE, savedProduct.getId(), () -> auditService.record(AuditOperation.CREATE, savedProduct));
+            event.setResultCount(1);
+            logger.info("Successfully created product with ID: {}", savedProduct.getId());
             return savedProduct;
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        } catch (Exception e) {
-            throw new ProductCreateException("Error while creating product", e);
+        } finally {
+            event.commit();
         }
     }
 
     public Product updateProduct(Long id, ProductRequest request) {
-        Product product = findById(id);
-
+        ProductOperationEvent event = ProductOperationEvent.start("updateProduct");
+        event.setProductId(id);
         try {
-            if (request.getName() != null) {
-                product.setName(request.getName());
+            // The stock column is owned by StockService and is not updatable through the entity
+            if (request.getStock() != null) {
+                throw new StockQuantityException("Product stock cannot be updated here, use the stock endpoints instead");
             }
-            if (request.getPrice() != null) {
-                product.setPrice(request.getPrice());
+            Product product = findById(id);
+
+            Product updatedProduct;
+            try {
+                if (request.getName() != null) {
+                    product.setName(request.getName());
+                }
+                if (request.getPrice() != null) {
+                    product.setPrice(request.getPrice());
+                }
+                updatedProduct = shardRouter.onShard(shardRouter.shardFor(id), () -> productRepository.save(product));
+                productCache.evict(id);
+                searchCoalescer.invalidate();
+            } catch (Exception e) {
+                throw new ProductUpdateException("Error while updating product with ID: " + product.getId(), e);
             }
-            Product updatedProduct = productRepository.save(product);
-            String productJson = objectMapper.writeValueAsString(updatedProduct);
-            logger.info("Successfully updated product with ID {}. New fields: {}", updatedProduct.getId(), productJson);
+            audit(AuditOperation.UPDATE, id, () -> auditService.record(AuditOperation.UPDATE, updatedProduct));
+            event.setResultCount(1);
+            logger.info("Successfully updated product with ID: {}", updatedProduct.getId());
             return updatedProduct;
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        } catch (Exception e) {
-            throw new ProductUpdateException("Error while updating product with ID: " + product.getId(), e);
+        } finally {
+            event.commit();
         }
     }
 
     public void deleteProduct(Long id) {
-        if (!productRepository.existsById(id)) {
-            throw new ProductNotFoundException("Cannot delete. Product with ID " + id + " doesn't exist");
+        ProductOperationEvent event = ProductOperationEvent.start("deleteProduct");
+        event.setProductId(id);
+        try {
+            int shard = shardRouter.shardFor(id);
+            if (!shardRouter.onShard(shard, () -> productRepository.existsById(id))) {
+                throw new ProductNotFoundException("Cannot delete. Product with ID " + id + " doesn't exist");
+            }
+
+            try {
+                shardRouter.onShard(shard, () -> productRepository.deleteById(id));
+                productCache.evict(id);
+                stockService.evict(id);
+                searchCoalescer.invalidate();
+            } catch (Exception e) {
+                throw new ProductDeleteException("Error while deleting product with ID " + id, e);
+            }
+            audit(AuditOperation.DELETE, id, () -> auditService.record(AuditOperation.DELETE, id, null, null));
+            event.setResultCount(1);
+            logger.info("Successfully deleted product with ID: {}", id);
+        } finally {
+            event.commit();
         }
+    }
 
+    // The change has already been committed when this runs, so a lost audit event is logged
+    // (and counted as dropped by AuditService) instead of failing the request
+    private void audit(AuditOperation operation, Long id, Runnable record) {
         try {
-            productRepository.deleteById(id);
-            logger.info("Successfully deleted product with ID: {}", id);
-        } catch (Exception e) {
-            throw new ProductDeleteException("Error while deleting product with ID " + id, e);
+            record.run();
+        } catch (AuditException e) {
+            logger.error("Product with ID {} was changed but its {} audit event was lost", id, operation, e);
+        }
+    }
+
+    private Set<Long> requestedIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ProductBatchException("At least one product ID is required");
+        }
+        for (Long id : ids) {
+            if (id == null) {
+                throw new ProductBatchException("Product IDs must not be null");
+            }
+        }
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        if (requestedIds.size() > batchProperties.getMaxIds()) {
+            throw new ProductBatchException("Cannot fetch more than " + batchProperties.getMaxIds() + " products at once");
         }
+        return requestedIds;
     }
 }
@@ -0,0 +1,44 @@
+package com.myproject.storemanager.shard;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(ShardProperties.class)
+public class ShardDataSourceConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardDataSourceConfiguration.class);
+
+    @Bean
+    @ConditionalOnExpression("${storemanager.shards.count:1} > 1")
+    public ShardRoutingDataSource dataSource(ShardProperties shardProperties, DataSourceProperties dataSourceProperties) {
+        ResourceDatabasePopulator schema = new ResourceDatabasePopulator(new ClassPathResource("shard-schema.sql"));
+        Map<Object, Object> shards = new HashMap<>();
+
+        for (int shard = 0; shard < shardProperties.getCount(); shard++) {
+            DataSource shardDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                    .url(String.format(shardProperties.getUrl(), shard))
+                    .build();
+            schema.execute(shardDataSource);
+            shards.put(shard, shardDataSource);
+        }
+
+        ShardRoutingDataSource dataSource = new ShardRoutingDataSource();
+        dataSource.setTargetDataSources(shards);
+        dataSource.setDefaultTargetDataSource(shards.get(0));
+        dataSource.afterPropertiesSet();
+        logger.info("Product storage split across {} shards", shardProperties.getCount());
+        return dataSource;
+    }
+}
@@ -0,0 +1,44 @@
+package com.myproject.storemanager.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "storemanager.shards")
+public class ShardProperties {
+
+    private int count = 1;
+    private String url = "jdbc:h2:file:./data/storedb-shard-%d;DB_CLOSE_DELAY=-1";
+    private int fanOutThreads = Runtime.getRuntime().availableProcessors();
+    private int fanOutQueueCapacity = 256;
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public int getFanOutThreads() {
+        return fanOutThreads;
+    }
+
+    public void setFanOutThreads(int fanOutThreads) {
+        this.fanOutThreads = fanOutThreads;
+    }
+
+    public int getFanOutQueueCapacity() {
+        return fanOutQueueCapacity;
+    }
+
+    public void setFanOutQueueCapacity(int fanOutQueueCapacity) {
+        this.fanOutQueueCapacity = fanOutQueueCapacity;
+    }
+}
@@ -0,0 +1,212 @@
+package com.myproject.storemanager.shard;
+
+import com.myproject.storemanager.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+@Component
+public class ShardRouter {
+
+    private static final long UNSEEDED = Long.MIN_VALUE;
+
+    private final ProductRepository productRepository;
+    private final int shardCount;
+    private final AtomicLongArray lastIds;
+    private final AtomicInteger placement = new AtomicInteger();
+    private final ExecutorService fanOutExecutor;
+
+    public ShardRouter(ShardProperties properties, ProductRepository productRepository) {
+        this.productRepository = productRepository;
+        this.shardCount = Math.max(1, properties.getCount());
+        this.lastIds = new AtomicLongArray(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            lastIds.set(shard, UNSEEDED);
+        }
+
+        if (shardCount > 1) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            int threads = Math.max(1, Math.min(shardCount, properties.getFanOutThreads()));
+            this.fanOutExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(properties.getFanOutQueueCapacity()),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "shard-fanout-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        } else {
+            this.fanOutExecutor = null;
+        }
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardFor(Long id) {
+        return (int) Math.floorMod(id, (long) shardCount);
+    }
+
+    public int nextShard() {
+        return Math.floorMod(placement.getAndIncrement(), shardCount);
+    }
+
+    // Ids are allocated so that id % shardCount == shard, which keeps them globally unique
+    // and lets point lookups be routed from the id alone.
+    // The compare-and-set fails if resetIds() ran after the read, so an id is never derived from UNSEEDED.
+    public long nextId(int shard) {
+        while (true) {
+            long last = lastIds.get(shard);
+            if (last == UNSEEDED) {
+                seed(shard);
+            } else if (lastIds.compareAndSet(shard, last, last + shardCount)) {
+                return last + shardCount;
+            }
+        }
+    }
+
+    public void resetIds() {
+        for (int shard = 0; shard < shardCount; shard++) {
+            lastIds.set(shard, UNSEEDED);
+        }
+    }
+
+    public <T> T onShard(int shard, Supplier<T> action) {
+        if (shardCount == 1) {
+            return action.get();
+        }
+        Integer previous = ShardContext.set(shard);
+        try {
+            return action.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    public void onShard(int shard, Runnable action) {
+        onShard(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // Each shard's query must already return its rows sorted by the given order; the per-shard
+    // lists are then k-way merged instead of being concatenated and sorted again.
+    public <T> List<T> fanOut(Supplier<List<T>> query, Comparator<? super T> order) {
+        if (shardCount == 1) {
+            return query.get();
+        }
+
+        CompletionService<List<T>> completionService = new ExecutorCompletionService<>(fanOutExecutor);
+        List<Future<List<T>>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(completionService.submit(() -> onShard(target, query)));
+        }
+
+        List<List<T>> results = new ArrayList<>(shardCount);
+        try {
+            for (int i = 0; i < shardCount; i++) {
+                results.add(completionService.take().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        }
+        return merge(results, order);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (fanOutExecutor != null) {
+            fanOutExecutor.shutdownNow();
+        }
+    }
+
+    private static <T> List<T> merge(List<List<T>> sortedLists, Comparator<? super T> order) {
+        int size = 0;
+        PriorityQueue<PeekingIterator<T>> heads = new PriorityQueue<>(sortedLists.size(),
+                (first, second) -> order.compare(first.peek(), second.peek()));
+        for (List<T> list : sortedLists) {
+            size += list.size();
+            if (!list.isEmpty()) {
+                heads.add(new PeekingIterator<>(list.iterator()));
+            }
+        }
+
+        List<T> merged = new ArrayList<>(size);
+        while (!heads.isEmpty()) {
+            PeekingIterator<T> head = heads.poll();
+            merged.add(head.next());
+            if (head.hasNext()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private static final class PeekingIterator<T> {
+
+        private final Iterator<T> iterator;
+        private T next;
+        private boolean hasNext;
+
+        private PeekingIterator(Iterator<T> iterator) {
+            this.iterator = iterator;
+            advance();
+        }
+
+        private T peek() {
+            return next;
+        }
+
+        private boolean hasNext() {
+            return hasNext;
+        }
+
+        private T next() {
+            T current = next;
+            advance();
+            return current;
+        }
+
+        private void advance() {
+            hasNext = iterator.hasNext();
+            next = hasNext ? iterator.next() : null;
+        }
+    }
+
+    private synchronized void seed(int shard) {
+        if (lastIds.get(shard) != UNSEEDED) {
+            return;
+        }
+        Long maxId = onShard(shard, productRepository::findMaxId);
+        long base = (maxId == null ? 0 : maxId) + 1;
+        long first = base + Math.floorMod(shard - base, (long) shardCount);
+        lastIds.set(shard, first - shardCount);
+    }
+}
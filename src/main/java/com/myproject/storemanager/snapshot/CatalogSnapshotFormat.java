@@ -0,0 +1,144 @@
+package com.myproject.storemanager.snapshot;
+
+import com.myproject.storemanager.exception.CatalogSnapshotException;
+import com.myproject.storemanager.model.Product;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+// Layout: header [magic:int][version:short][reserved:short][createdAt:long],
+// records [id:long][flags:byte][price:double][stock:long][nameLength:int][name:utf-8],
+// trailer [count:long][crc32c of everything before it:int]. Version 1 records have no stock field.
+final class CatalogSnapshotFormat {
+
+    static final int MAGIC = 0x534D4353;
+    static final short VERSION = 2;
+    static final short VERSION_WITHOUT_STOCK = 1;
+    static final int HEADER_SIZE = 16;
+    static final int TRAILER_SIZE = 12;
+
+    private static final int RECORD_FIXED_SIZE = 29;
+    private static final byte HAS_NAME = 1;
+    private static final byte HAS_PRICE = 2;
+    private static final byte HAS_STOCK = 4;
+
+    private CatalogSnapshotFormat() {}
+
+    static class Writer implements Closeable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        private final CRC32C crc = new CRC32C();
+        private long count;
+
+        Writer(FileChannel channel, long createdAt) {
+            this.channel = channel;
+            buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putLong(createdAt);
+        }
+
+        void write(Product product) throws IOException {
+            byte[] name = product.getName() == null ? new byte[0] : product.getName().getBytes(StandardCharsets.UTF_8);
+            int recordSize = RECORD_FIXED_SIZE + name.length;
+            if (buffer.remaining() < recordSize) {
+                flush();
+            }
+            ByteBuffer target = buffer.remaining() < recordSize ? ByteBuffer.allocate(recordSize) : buffer;
+
+            byte flags = (byte) ((product.getName() != null ? HAS_NAME : 0) | (product.getPrice() != null ? HAS_PRICE : 0)
+                    | (product.getStock() != null ? HAS_STOCK : 0));
+            target.putLong(product.getId())
+                    .put(flags)
+                    .putDouble(product.getPrice() != null ? product.getPrice() : 0.0)
+                    .putLong(product.getStock() != null ? product.getStock() : 0L)
+                    .putInt(name.length)
+                    .put(name);
+            if (target != buffer) {
+                target.flip();
+                drain(target);
+            }
+            count++;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (buffer.remaining() < TRAILER_SIZE) {
+                flush();
+            }
+            buffer.putLong(count);
+            crc.update(buffer.duplicate().flip());
+            buffer.putInt((int) crc.getValue());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            drain(buffer);
+            buffer.clear();
+        }
+
+        private void drain(ByteBuffer source) throws IOException {
+            crc.update(source.duplicate());
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+
+    static long read(ByteBuffer snapshot, Consumer<Product> consumer) {
+        int size = snapshot.limit();
+        if (size < HEADER_SIZE + TRAILER_SIZE) {
+            throw new CatalogSnapshotException("Snapshot is truncated");
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(snapshot.duplicate().limit(size - Integer.BYTES));
+        if ((int) crc.getValue() != snapshot.getInt(size - Integer.BYTES)) {
+            throw new CatalogSnapshotException("Snapshot checksum does not match its content");
+        }
+        if (snapshot.getInt(0) != MAGIC) {
+            throw new CatalogSnapshotException("Not a catalog snapshot");
+        }
+        short version = snapshot.getShort(4);
+        if (version != VERSION && version != VERSION_WITHOUT_STOCK) {
+            throw new CatalogSnapshotException("Unsupported snapshot version: " + version);
+        }
+
+        long count = snapshot.getLong(size - TRAILER_SIZE);
+        ByteBuffer records = snapshot.duplicate().position(HEADER_SIZE).limit(size - TRAILER_SIZE);
+        try {
+            for (long i = 0; i < count; i++) {
+                Product product = new Product();
+                product.setId(records.getLong());
+                byte flags = records.get();
+                double price = records.getDouble();
+                long stock = version == VERSION ? records.getLong() : 0L;
+                byte[] name = new byte[records.getInt()];
+                records.get(name);
+                product.setPrice((flags & HAS_PRICE) != 0 ? price : null);
+                product.setName((flags & HAS_NAME) != 0 ? new String(name, StandardCharsets.UTF_8) : null);
+                product.setStock((flags & HAS_STOCK) != 0 ? stock : null);
+                consumer.accept(product);
+            }
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new CatalogSnapshotException("Snapshot records are corrupted");
+        }
+        if (records.hasRemaining()) {
+            throw new CatalogSnapshotException("Snapshot contains more data than its record count");
+        }
+        return count;
+    }
+}
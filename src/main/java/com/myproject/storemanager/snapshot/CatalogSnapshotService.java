@@ -0,0 +1,211 @@
+package com.myproject.storemanager.snapshot;
+
+import com.myproject.storemanager.exception.CatalogSnapshotException;
+import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.repository.ProductRepository;
+import com.myproject.storemanager.service.ProductCache;
+import com.myproject.storemanager.service.ProductSearchCoalescer;
+import com.myproject.storemanager.shard.ShardRouter;
+import com.myproject.storemanager.stock.StockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@EnableConfigurationProperties(SnapshotProperties.class)
+public class CatalogSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotService.class);
+    private static final String PREFIX = "catalog-";
+    private static final String SUFFIX = ".snapshot";
+
+    private final ProductRepository productRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductSearchCoalescer searchCoalescer;
+    private final ProductCache productCache;
+    private final StockService stockService;
+    private final SnapshotProperties properties;
+
+    public CatalogSnapshotService(ProductRepository productRepository, ShardRouter shardRouter,
+                                  TransactionTemplate transactionTemplate, ProductSearchCoalescer searchCoalescer,
+                                  ProductCache productCache, StockService stockService, SnapshotProperties properties) {
+        this.productRepository = productRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = transactionTemplate;
+        this.searchCoalescer = searchCoalescer;
+        this.productCache = productCache;
+        this.stockService = stockService;
+        this.properties = properties;
+    }
+
+    @Scheduled(initialDelayString = "${storemanager.snapshot.interval:PT5M}",
+            fixedDelayString = "${storemanager.snapshot.interval:PT5M}")
+    public void scheduledSnapshot() {
+        if (properties.isEnabled()) {
+            writeSnapshot();
+        }
+    }
+
+    public synchronized Path writeSnapshot() {
+        long createdAt = System.currentTimeMillis();
+        Path target = properties.getDirectory().resolve(PREFIX + createdAt + SUFFIX);
+        Path temp = properties.getDirectory().resolve(PREFIX + createdAt + SUFFIX + ".tmp");
+
+        try {
+            // Write pending stock deltas first so the snapshot carries committed reservations
+            stockService.flush();
+            Files.createDirectories(properties.getDirectory());
+            long count;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                 CatalogSnapshotFormat.Writer writer = new CatalogSnapshotFormat.Writer(channel, createdAt)) {
+                // Keyset pages keep memory bounded no matter how large a shard is
+                PageRequest page = PageRequest.of(0, properties.getPageSize());
+                for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+                    long lastId = Long.MIN_VALUE;
+                    List<Product> products;
+                    do {
+                        long after = lastId;
+                        products = shardRouter.onShard(shard,
+                                () -> productRepository.findByIdGreaterThanOrderByIdAsc(after, page));
+                        for (Product product : products) {
+                            writer.write(product);
+                        }
+                        if (!products.isEmpty()) {
+                            lastId = products.get(products.size() - 1).getId();
+                        }
+                    } while (products.size() == page.getPageSize());
+                }
+                count = writer.getCount();
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            pruneSnapshots();
+            logger.info("Wrote catalog snapshot {} with {} products", target.getFileName(), count);
+            return target;
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // the next successful snapshot leaves the stale temp file unreferenced
+            }
+            throw new CatalogSnapshotException("Error while writing catalog snapshot", e);
+        }
+    }
+
+    public Optional<Path> latestSnapshot() {
+        return listSnapshots().stream().reduce((first, second) -> second);
+    }
+
+    public long restore(InputStream snapshot) {
+        Path upload = null;
+        try {
+            Files.createDirectories(properties.getDirectory());
+            upload = Files.createTempFile(properties.getDirectory(), "restore-", SUFFIX + ".tmp");
+            Files.copy(snapshot, upload, StandardCopyOption.REPLACE_EXISTING);
+            return restore(upload);
+        } catch (IOException e) {
+            throw new CatalogSnapshotException("Error while receiving catalog snapshot", e);
+        } finally {
+            if (upload != null) {
+                try {
+                    Files.deleteIfExists(upload);
+                } catch (IOException e) {
+                    logger.warn("Could not delete uploaded snapshot {}", upload, e);
+                }
+            }
+        }
+    }
+
+    public synchronized long restore(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new CatalogSnapshotException("Snapshot is too large to restore: " + channel.size() + " bytes");
+            }
+            MappedByteBuffer snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            // Validate the whole snapshot before touching the database
+            CatalogSnapshotFormat.read(snapshot, product -> {});
+
+            // Drop live counters and unflushed deltas so they are not applied to the restored rows
+            stockService.reset();
+            // Each shard is replaced in one transaction, so a failure rolls that shard back to its
+            // previous rows. Shards that were already replaced stay replaced.
+            long count = 0;
+            for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+                int target = shard;
+                count += shardRouter.onShard(shard, () -> transactionTemplate.execute(status -> restoreShard(target, snapshot)));
+            }
+            shardRouter.resetIds();
+            productCache.clear();
+            searchCoalescer.invalidate();
+            logger.info("Restored {} products from catalog snapshot", count);
+            return count;
+        }
+    }
+
+    private long restoreShard(int shard, ByteBuffer snapshot) {
+        productRepository.deleteAllInBatch();
+        List<Product> batch = new ArrayList<>(properties.getRestoreBatchSize());
+        long[] count = new long[1];
+        CatalogSnapshotFormat.read(snapshot, product -> {
+            if (shardRouter.shardFor(product.getId()) != shard) {
+                return;
+            }
+            batch.add(product);
+            count[0]++;
+            if (batch.size() >= properties.getRestoreBatchSize()) {
+                productRepository.insertAll(batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            productRepository.insertAll(batch);
+        }
+        return count[0];
+    }
+
+    private List<Path> listSnapshots() {
+        if (!Files.isDirectory(properties.getDirectory())) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(properties.getDirectory())) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new CatalogSnapshotException("Error while listing catalog snapshots", e);
+        }
+    }
+
+    // Older snapshots are kept around for a while because a download that is already being
+    // sent by file name must not see the file disappear before it has been opened.
+    private void pruneSnapshots() throws IOException {
+        List<Path> snapshots = listSnapshots();
+        for (int i = 0; i < snapshots.size() - Math.max(1, properties.getRetain()); i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.myproject.storemanager.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "storemanager.snapshot")
+public class SnapshotProperties {
+
+    private boolean enabled = true;
+    private Path directory = Path.of("data", "snapshots");
+    private Duration interval = Duration.ofMinutes(5);
+    private int retain = 2;
+    private int restoreBatchSize = 500;
+    private int pageSize = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getRetain() {
+        return retain;
+    }
+
+    public void setRetain(int retain) {
+        this.retain = retain;
+    }
+
+    public int getRestoreBatchSize() {
+        return restoreBatchSize;
+    }
+
+    public void setRestoreBatchSize(int restoreBatchSize) {
+        this.restoreBatchSize = restoreBatchSize;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+}
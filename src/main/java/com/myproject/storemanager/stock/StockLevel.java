@@ -0,0 +1,4 @@
+package com.myproject.storemanager.stock;
+
+public record StockLevel(Long productId, long available) {
+}
@@ -0,0 +1,55 @@
+package com.myproject.storemanager.stock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "storemanager.stock")
+public class StockProperties {
+
+    private int stripes = 0;
+    private long stripeQuota = 64;
+    private Duration reservationTtl = Duration.ofMinutes(10);
+    private Duration sweepInterval = Duration.ofSeconds(1);
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public long getStripeQuota() {
+        return stripeQuota;
+    }
+
+    public void setStripeQuota(long stripeQuota) {
+        this.stripeQuota = stripeQuota;
+    }
+
+    public Duration getReservationTtl() {
+        return reservationTtl;
+    }
+
+    public void setReservationTtl(Duration reservationTtl) {
+        this.reservationTtl = reservationTtl;
+    }
+
+    public Duration getSweepInterval() {
+        return sweepInterval;
+    }
+
+    public void setSweepInterval(Duration sweepInterval) {
+        this.sweepInterval = sweepInterval;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+}
@@ -0,0 +1,10 @@
+package com.myproject.storemanager.stock;
+
+import java.time.Instant;
+
+public record StockReservation(String id, Long productId, long quantity, Instant expiresAt) {
+
+    boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
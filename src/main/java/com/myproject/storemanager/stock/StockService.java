@@ -0,0 +1,201 @@
+package com.myproject.storemanager.stock;
+
+import com.myproject.storemanager.exception.InsufficientStockException;
+import com.myproject.storemanager.exception.ProductNotFoundException;
+import com.myproject.storemanager.exception.ReservationNotFoundException;
+import com.myproject.storemanager.exception.StockQuantityException;
+import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.repository.ProductRepository;
+import com.myproject.storemanager.service.ProductCache;
+import com.myproject.storemanager.shard.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Reservations are taken from in-memory striped counters; only committed reservations and
+// restocks become deltas, which are written to the database in one transaction per shard on
+// every flush. The persisted stock column therefore lags the live counters by up to one flush.
+@Service
+@EnableConfigurationProperties(StockProperties.class)
+public class StockService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockService.class);
+
+    private final ProductRepository productRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductCache productCache;
+    private final StockProperties properties;
+    private final int stripes;
+    private final Map<Long, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+    private final Map<String, StockReservation> reservations = new ConcurrentHashMap<>();
+    private final Counter reserved;
+    private final Counter rejected;
+    private final Counter expired;
+
+    public StockService(ProductRepository productRepository, ShardRouter shardRouter,
+                        TransactionTemplate transactionTemplate, ProductCache productCache,
+                        StockProperties properties, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = transactionTemplate;
+        this.productCache = productCache;
+        this.properties = properties;
+        this.stripes = properties.getStripes() > 0 ? properties.getStripes() : Runtime.getRuntime().availableProcessors();
+        this.reserved = Counter.builder("storemanager.stock.reservations").tag("outcome", "reserved").register(meterRegistry);
+        this.rejected = Counter.builder("storemanager.stock.reservations").tag("outcome", "rejected").register(meterRegistry);
+        this.expired = Counter.builder("storemanager.stock.reservations").tag("outcome", "expired").register(meterRegistry);
+        Gauge.builder("storemanager.stock.reservations.open", reservations, Map::size)
+                .description("Reservations that are neither committed, released nor expired")
+                .register(meterRegistry);
+    }
+
+    public StockLevel getStock(Long productId) {
+        return new StockLevel(productId, counter(productId).available());
+    }
+
+    public StockReservation reserve(Long productId, long quantity) {
+        requirePositive(quantity);
+        if (!counter(productId).tryAcquire(quantity)) {
+            rejected.increment();
+            throw new InsufficientStockException("Not enough stock to reserve " + quantity
+                    + " of product with ID " + productId);
+        }
+        // UUID.randomUUID() draws from a shared SecureRandom and serializes concurrent reservers
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String reservationId = new UUID(random.nextLong(), random.nextLong()).toString();
+        StockReservation reservation = new StockReservation(reservationId, productId, quantity,
+                Instant.now().plus(properties.getReservationTtl()));
+        reservations.put(reservation.id(), reservation);
+        reserved.increment();
+        return reservation;
+    }
+
+    public StockReservation commit(String reservationId) {
+        StockReservation reservation = take(reservationId);
+        pendingDeltas.computeIfAbsent(reservation.productId(), id -> new LongAdder()).add(-reservation.quantity());
+        return reservation;
+    }
+
+    public StockReservation release(String reservationId) {
+        StockReservation reservation = take(reservationId);
+        giveBack(reservation);
+        return reservation;
+    }
+
+    public StockLevel restock(Long productId, long quantity) {
+        requirePositive(quantity);
+        StripedStockCounter counter = counter(productId);
+        pendingDeltas.computeIfAbsent(productId, id -> new LongAdder()).add(quantity);
+        counter.release(quantity);
+        logger.info("Restocked {} units of product with ID {}", quantity, productId);
+        return new StockLevel(productId, counter.available());
+    }
+
+    public void evict(Long productId) {
+        counters.remove(productId);
+        pendingDeltas.remove(productId);
+        reservations.values().removeIf(reservation -> reservation.productId().equals(productId));
+    }
+
+    public synchronized void reset() {
+        counters.clear();
+        pendingDeltas.clear();
+        reservations.clear();
+    }
+
+    @Scheduled(initialDelayString = "${storemanager.stock.sweep-interval:PT1S}",
+            fixedDelayString = "${storemanager.stock.sweep-interval:PT1S}")
+    public void expireReservations() {
+        Instant now = Instant.now();
+        for (StockReservation reservation : reservations.values()) {
+            if (reservation.isExpired(now) && reservations.remove(reservation.id(), reservation)) {
+                giveBack(reservation);
+                expired.increment();
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${storemanager.stock.flush-interval:PT1S}",
+            fixedDelayString = "${storemanager.stock.flush-interval:PT1S}")
+    public synchronized void flush() {
+        Map<Integer, Map<Long, Long>> deltasByShard = new HashMap<>();
+        pendingDeltas.forEach((productId, adder) -> {
+            // Subtract what was read instead of resetting, so concurrent commits are never lost
+            long delta = adder.sum();
+            if (delta != 0) {
+                adder.add(-delta);
+                deltasByShard.computeIfAbsent(shardRouter.shardFor(productId), shard -> new HashMap<>())
+                        .put(productId, delta);
+            }
+        });
+
+        deltasByShard.forEach((shard, deltas) -> {
+            try {
+                shardRouter.onShard(shard, () -> transactionTemplate.executeWithoutResult(status ->
+                        deltas.forEach(productRepository::addStock)));
+                deltas.keySet().forEach(productCache::evict);
+            } catch (RuntimeException e) {
+                deltas.forEach((productId, delta) ->
+                        pendingDeltas.computeIfAbsent(productId, id -> new LongAdder()).add(delta));
+                logger.error("Error while writing stock deltas for {} products, retrying on next flush", deltas.size(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private StripedStockCounter counter(Long productId) {
+        return counters.computeIfAbsent(productId, id -> {
+            Product product = shardRouter.onShard(shardRouter.shardFor(id), () -> productRepository.findById(id))
+                    .orElseThrow(() -> new ProductNotFoundException(id));
+            long stock = product.getStock() != null ? product.getStock() : 0;
+            return new StripedStockCounter(stock, stripes, properties.getStripeQuota());
+        });
+    }
+
+    private StockReservation take(String reservationId) {
+        StockReservation reservation = reservations.remove(reservationId);
+        if (reservation == null) {
+            throw new ReservationNotFoundException("Reservation " + reservationId + " doesn't exist or has expired");
+        }
+        if (reservation.isExpired(Instant.now())) {
+            giveBack(reservation);
+            expired.increment();
+            throw new ReservationNotFoundException("Reservation " + reservationId + " doesn't exist or has expired");
+        }
+        return reservation;
+    }
+
+    private void giveBack(StockReservation reservation) {
+        StripedStockCounter counter = counters.get(reservation.productId());
+        if (counter != null) {
+            counter.release(reservation.quantity());
+        }
+    }
+
+    private static void requirePositive(long quantity) {
+        if (quantity <= 0) {
+            throw new StockQuantityException("Stock quantity must be positive");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.myproject.storemanager.stock;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Available stock of one product, split into a shared pool and per-thread stripes. Each stripe
+// holds a small quota taken from the pool so that concurrent reservations on a hot product
+// decrement different cache lines. Units only ever move between the pool and the stripes with
+// CAS, and a decrement never goes below zero, so the total can never be oversold.
+class StripedStockCounter {
+
+    // 16 longs = 128 bytes between used slots, so neighbouring stripes never share a cache line
+    private static final int PADDING = 16;
+
+    private final AtomicLong pool;
+    private final AtomicLongArray stripes;
+    private final int mask;
+    private final long stripeQuota;
+
+    StripedStockCounter(long initial, int stripeCount, long stripeQuota) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit((stripeCount - 1) << 1);
+        this.pool = new AtomicLong(Math.max(0, initial));
+        this.stripes = new AtomicLongArray(size * PADDING);
+        this.mask = size - 1;
+        this.stripeQuota = Math.max(1, stripeQuota);
+    }
+
+    boolean tryAcquire(long quantity) {
+        int stripe = stripe();
+        if (takeFromStripe(stripe, quantity) || refill(stripe, quantity)) {
+            return true;
+        }
+        // Units may be parked in other threads' stripes; gather them back and try once more
+        synchronized (this) {
+            for (int i = 0; i <= mask; i++) {
+                long parked = stripes.getAndSet(i * PADDING, 0);
+                if (parked > 0) {
+                    pool.addAndGet(parked);
+                }
+            }
+            return takeFromPool(quantity);
+        }
+    }
+
+    void release(long quantity) {
+        stripes.addAndGet(stripe() * PADDING, quantity);
+    }
+
+    long available() {
+        long available = pool.get();
+        for (int i = 0; i <= mask; i++) {
+            available += stripes.get(i * PADDING);
+        }
+        return available;
+    }
+
+    private boolean takeFromStripe(int stripe, long quantity) {
+        int index = stripe * PADDING;
+        while (true) {
+            long current = stripes.get(index);
+            if (current < quantity) {
+                return false;
+            }
+            if (stripes.compareAndSet(index, current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    // Takes the requested quantity plus up to one quota for later reservations on this stripe,
+    // but never more than a fair share of what is left so low stock is not hoarded by one stripe.
+    private boolean refill(int stripe, long quantity) {
+        while (true) {
+            long current = pool.get();
+            if (current < quantity) {
+                return false;
+            }
+            long share = Math.max(quantity, Math.min(stripeQuota, current / (mask + 1)));
+            if (pool.compareAndSet(current, current - share)) {
+                if (share > quantity) {
+                    stripes.addAndGet(stripe * PADDING, share - quantity);
+                }
+                return true;
+            }
+        }
+    }
+
+    private boolean takeFromPool(long quantity) {
+        while (true) {
+            long current = pool.get();
+            if (current < quantity) {
+                return false;
+            }
+            if (pool.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    private int stripe() {
+        long hash = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+}
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS product (
+    id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(255),
+    price DOUBLE PRECISION
+);
+
+ALTER TABLE product ADD COLUMN IF NOT EXISTS stock BIGINT;
@@ -0,0 +1,39 @@
+package com.myproject.storemanager.reactive;
+
+import com.myproject.storemanager.handler.ProductExceptionHandler;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+
+// Non-blocking variant of StoreManagerApplication: same /products routes on WebFlux and R2DBC.
+// Only this package is scanned; the servlet application skips it because of the profile.
+@SpringBootApplication(exclude = {DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+		HibernateJpaAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class})
+@Import(ProductExceptionHandler.class)
+@Profile(ReactiveStoreManagerApplication.PROFILE)
+public class ReactiveStoreManagerApplication {
+
+	public static final String PROFILE = "reactive";
+
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(ReactiveStoreManagerApplication.class)
+				.web(WebApplicationType.REACTIVE)
+				.profiles(PROFILE)
+				.run(args);
+	}
+
+	// Tomcat is on the classpath for the servlet application and would otherwise be picked first
+	@Bean
+	public NettyReactiveWebServerFactory reactiveWebServerFactory() {
+		return new NettyReactiveWebServerFactory();
+	}
+
+}
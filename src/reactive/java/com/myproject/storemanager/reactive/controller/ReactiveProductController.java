@@ -0,0 +1,70 @@
+package com.myproject.storemanager.reactive.controller;
+
+import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.api.response.ProductBatchResponse;
+import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.reactive.ReactiveStoreManagerApplication;
+import com.myproject.storemanager.reactive.service.ReactiveProductService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// List endpoints return a Flux, which is written as a streamed JSON array or, with
+// Accept: application/x-ndjson, one product per line; demand from the client drives the R2DBC fetch.
+@RestController
+@RequestMapping("/products")
+@Profile(ReactiveStoreManagerApplication.PROFILE)
+public class ReactiveProductController {
+
+    private final ReactiveProductService productService;
+
+    public ReactiveProductController(ReactiveProductService productService) {
+        this.productService = productService;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Product> getAllProducts() {
+        return productService.findAll();
+    }
+
+    @GetMapping("/id/{id}")
+    public Mono<ResponseEntity<Product>> getProductById(@PathVariable Long id) {
+        return productService.findById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/ids")
+    public Mono<ResponseEntity<ProductBatchResponse>> getProductsByIds(@RequestParam List<Long> ids) {
+        return productService.findByIds(ids).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/ids")
+    public Mono<ResponseEntity<ProductBatchResponse>> getProductsByIdsInBody(@RequestBody List<Long> ids) {
+        return productService.findByIds(ids).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/name/{name}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Product> getProductByName(@PathVariable String name) {
+        return productService.findByName(name);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Product>> addProduct(@RequestBody ProductRequest request) {
+        return productService.addProduct(request).map(product -> ResponseEntity.status(HttpStatus.CREATED).body(product));
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Product>> updateProduct(@PathVariable Long id, @RequestBody ProductRequest request) {
+        return productService.updateProduct(id, request).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteProduct(@PathVariable Long id) {
+        return productService.deleteProduct(id).thenReturn(ResponseEntity.ok("Product deleted successfully"));
+    }
+}
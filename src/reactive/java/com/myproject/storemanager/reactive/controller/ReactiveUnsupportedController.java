@@ -0,0 +1,41 @@
+package com.myproject.storemanager.reactive.controller;
+
+import com.myproject.storemanager.reactive.ReactiveStoreManagerApplication;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+// Routes of the servlet application that the reactive variant does not serve. They answer
+// 501 instead of 404, or instead of silently ignoring ?fields and returning whole products.
+@RestController
+@Profile(ReactiveStoreManagerApplication.PROFILE)
+public class ReactiveUnsupportedController {
+
+    @GetMapping(value = {"/products", "/products/id/{id}", "/products/ids", "/products/name/{name}"}, params = "fields")
+    public Mono<ResponseEntity<String>> getProductViews() {
+        return notImplemented("Sparse fieldsets");
+    }
+
+    @PostMapping(value = "/products/ids", params = "fields")
+    public Mono<ResponseEntity<String>> getProductViewsByIdsInBody() {
+        return notImplemented("Sparse fieldsets");
+    }
+
+    @RequestMapping({"/products/{id}/stock", "/products/{id}/reservations", "/products/reservations/**",
+            "/admin/stock/**"})
+    public Mono<ResponseEntity<String>> stock() {
+        return notImplemented("Stock and reservations");
+    }
+
+    @RequestMapping({"/products/snapshot", "/admin/snapshot"})
+    public Mono<ResponseEntity<String>> snapshot() {
+        return notImplemented("Catalog snapshots");
+    }
+
+    private static Mono<ResponseEntity<String>> notImplemented(String feature) {
+        return Mono.just(ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED)
+                .body(feature + " are only available on the servlet application"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.myproject.storemanager.reactive.model;
+
+import com.myproject.storemanager.model.Product;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+// R2DBC mapping of the product table; responses are converted to Product so both stacks share a JSON shape
+@Table("product")
+public class ReactiveProduct {
+
+    @Id
+    private Long id;
+    private String name;
+    private Double price;
+    private Long stock;
+
+    public ReactiveProduct() {}
+
+    public ReactiveProduct(Long id, String name, Double price, Long stock) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.stock = stock;
+    }
+
+    public Product toProduct() {
+        Product product = new Product(name, price);
+        product.setId(id);
+        product.setStock(stock);
+        return product;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public void setPrice(Double price) {
+        this.price = price;
+    }
+
+    public Long getStock() {
+        return stock;
+    }
+
+    public void setStock(Long stock) {
+        this.stock = stock;
+    }
+}
@@ -0,0 +1,18 @@
+package com.myproject.storemanager.reactive.repository;
+
+import com.myproject.storemanager.reactive.model.ReactiveProduct;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveProductRepository extends ReactiveCrudRepository<ReactiveProduct, Long> {
+    Flux<ReactiveProduct> findAllByOrderByIdAsc();
+
+    Flux<ReactiveProduct> findByNameContainingIgnoreCaseOrderByIdAsc(String name);
+
+    @Query("SELECT MAX(id) FROM product")
+    Mono<Long> findMaxId();
+}
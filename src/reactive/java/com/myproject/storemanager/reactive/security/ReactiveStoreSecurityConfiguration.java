@@ -0,0 +1,71 @@
+package com.myproject.storemanager.reactive.security;
+
+import com.myproject.storemanager.reactive.ReactiveStoreManagerApplication;
+import com.myproject.storemanager.security.StoreSecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.MapReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+// Same rules and users as StoreSecurityConfiguration
+@Configuration
+@EnableConfigurationProperties(StoreSecurityProperties.class)
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+@Profile(ReactiveStoreManagerApplication.PROFILE)
+public class ReactiveStoreSecurityConfiguration {
+
+    private final ServerAccessDeniedHandler accessDeniedHandler;
+
+    public ReactiveStoreSecurityConfiguration(ServerAccessDeniedHandler accessDeniedHandler) {
+        this.accessDeniedHandler = accessDeniedHandler;
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .authorizeExchange(authorizeExchangeSpec ->
+                        authorizeExchangeSpec
+                                .pathMatchers(HttpMethod.GET, "/products/**").permitAll()
+                                .pathMatchers(HttpMethod.POST, "/products/ids").permitAll()
+                                .pathMatchers(HttpMethod.POST, "/products").hasRole("ADMIN")
+                                .pathMatchers(HttpMethod.PATCH, "/products/{id}").hasRole("ADMIN")
+                                .pathMatchers(HttpMethod.DELETE, "/products/{id}").hasRole("ADMIN")
+                                .pathMatchers("/admin/**").hasRole("ADMIN")
+                                .anyExchange().authenticated())
+                .httpBasic(Customizer.withDefaults())
+                .exceptionHandling(exceptionHandlingSpec -> exceptionHandlingSpec.accessDeniedHandler(accessDeniedHandler))
+                // Stateless like the servlet configuration: nothing is kept between requests
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .build();
+    }
+
+    @Bean
+    public MapReactiveUserDetailsService userDetailsService(BCryptPasswordEncoder passwordEncoder) {
+        return new MapReactiveUserDetailsService(
+                User.withUsername("customer")
+                        .password(passwordEncoder.encode("customerPassword"))
+                        .roles("CUSTOMER")
+                        .build(),
+                User.withUsername("admin")
+                        .password(passwordEncoder.encode("adminPassword"))
+                        .roles("CUSTOMER", "ADMIN")
+                        .build());
+    }
+
+    @Bean
+    public BCryptPasswordEncoder passwordEncoder(StoreSecurityProperties properties) {
+        return new BCryptPasswordEncoder(properties.getBcryptStrength());
+    }
+}
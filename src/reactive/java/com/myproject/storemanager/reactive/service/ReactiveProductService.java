@@ -0,0 +1,197 @@
+package com.myproject.storemanager.reactive.service;
+
+import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.api.response.ProductBatchResponse;
+import com.myproject.storemanager.exception.ProductBatchException;
+import com.myproject.storemanager.exception.ProductCreateException;
+import com.myproject.storemanager.exception.ProductDeleteException;
+import com.myproject.storemanager.exception.ProductNotFoundException;
+import com.myproject.storemanager.exception.ProductUpdateException;
+import com.myproject.storemanager.exception.StockQuantityException;
+import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.reactive.ReactiveStoreManagerApplication;
+import com.myproject.storemanager.reactive.model.ReactiveProduct;
+import com.myproject.storemanager.reactive.repository.ReactiveProductRepository;
+import com.myproject.storemanager.service.ProductBatchProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+
+@Service
+@Profile(ReactiveStoreManagerApplication.PROFILE)
+@EnableConfigurationProperties(ProductBatchProperties.class)
+public class ReactiveProductService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveProductService.class);
+    private static final long UNSEEDED = Long.MIN_VALUE;
+
+    private final ReactiveProductRepository productRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final ProductBatchProperties batchProperties;
+    private final AtomicLong lastId = new AtomicLong(UNSEEDED);
+
+    public ReactiveProductService(ReactiveProductRepository productRepository, R2dbcEntityTemplate entityTemplate,
+                                  ProductBatchProperties batchProperties) {
+        this.productRepository = productRepository;
+        this.entityTemplate = entityTemplate;
+        this.batchProperties = batchProperties;
+    }
+
+    // Rows are streamed from the database as the client consumes them rather than collected first
+    public Flux<Product> findAll() {
+        return productRepository.findAllByOrderByIdAsc()
+                .map(ReactiveProduct::toProduct)
+                .switchIfEmpty(Flux.error(() -> new ProductNotFoundException("There are no products in the database")))
+                .doOnComplete(() -> logger.info("Fetched all products"));
+    }
+
+    public Mono<Product> findById(Long id) {
+        return productRepository.findById(id)
+                .map(ReactiveProduct::toProduct)
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(id)))
+                .doOnNext(product -> logger.info("Retrieved product with ID: {}", id));
+    }
+
+    public Mono<ProductBatchResponse> findByIds(List<Long> ids) {
+        Set<Long> requestedIds;
+        try {
+            requestedIds = requestedIds(ids);
+        } catch (ProductBatchException e) {
+            return Mono.error(e);
+        }
+
+        List<Long> idList = new ArrayList<>(requestedIds);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < idList.size(); from += batchProperties.getChunkSize()) {
+            chunks.add(idList.subList(from, Math.min(idList.size(), from + batchProperties.getChunkSize())));
+        }
+
+        return Flux.fromIterable(chunks)
+                .concatMap(productRepository::findAllById)
+                .collectMap(ReactiveProduct::getId)
+                .map(found -> toBatchResponse(requestedIds, found));
+    }
+
+    public Flux<Product> findByName(String name) {
+        return productRepository.findByNameContainingIgnoreCaseOrderByIdAsc(name)
+                .map(ReactiveProduct::toProduct)
+                .switchIfEmpty(Flux.error(() -> new ProductNotFoundException("No results for: " + name)))
+                .doOnComplete(() -> logger.info("Retrieved products for: {}", name));
+    }
+
+    public Mono<Product> addProduct(ProductRequest request) {
+        if (request.getName() == null || request.getName().trim().isEmpty()) {
+            return Mono.error(new ProductCreateException("Product name cannot be empty"));
+        }
+        if (request.getPrice() == null) {
+            return Mono.error(new ProductCreateException("Product price cannot be empty"));
+        }
+        if (request.getStock() != null && request.getStock() < 0) {
+            return Mono.error(new ProductCreateException("Product stock cannot be negative"));
+        }
+
+        return nextId()
+                .flatMap(id -> entityTemplate.insert(new ReactiveProduct(id, request.getName(), request.getPrice(),
+                        request.getStock() != null ? request.getStock() : 0L)))
+                .map(ReactiveProduct::toProduct)
+                .doOnNext(product -> logger.info("Successfully created product with ID: {}", product.getId()))
+                .onErrorMap(e -> new ProductCreateException("Error while creating product", e));
+    }
+
+    public Mono<Product> updateProduct(Long id, ProductRequest request) {
+        // Same rule as ProductService: stock only changes through the stock endpoints
+        if (request.getStock() != null) {
+            return Mono.error(new StockQuantityException("Product stock cannot be updated here, use the stock endpoints instead"));
+        }
+        return findById(id).flatMap(product -> {
+            Update update = null;
+            if (request.getName() != null) {
+                product.setName(request.getName());
+                update = Update.update("name", request.getName());
+            }
+            if (request.getPrice() != null) {
+                product.setPrice(request.getPrice());
+                update = update == null ? Update.update("price", request.getPrice()) : update.set("price", request.getPrice());
+            }
+            if (update == null) {
+                return Mono.just(product);
+            }
+            return entityTemplate.update(ReactiveProduct.class)
+                    .matching(Query.query(where("id").is(id)))
+                    .apply(update)
+                    .thenReturn(product)
+                    .doOnNext(updatedProduct -> logger.info("Successfully updated product with ID: {}", id))
+                    .onErrorMap(e -> new ProductUpdateException("Error while updating product with ID: " + id, e));
+        });
+    }
+
+    public Mono<Void> deleteProduct(Long id) {
+        return productRepository.existsById(id).flatMap(exists -> {
+            if (!exists) {
+                return Mono.<Void>error(new ProductNotFoundException("Cannot delete. Product with ID " + id + " doesn't exist"));
+            }
+            return productRepository.deleteById(id)
+                    .doOnSuccess(ignored -> logger.info("Successfully deleted product with ID: {}", id))
+                    .onErrorMap(e -> new ProductDeleteException("Error while deleting product with ID " + id, e));
+        });
+    }
+
+    private Mono<Long> nextId() {
+        if (lastId.get() != UNSEEDED) {
+            return Mono.just(lastId.incrementAndGet());
+        }
+        return productRepository.findMaxId()
+                .defaultIfEmpty(0L)
+                .map(maxId -> {
+                    lastId.compareAndSet(UNSEEDED, maxId);
+                    return lastId.incrementAndGet();
+                });
+    }
+
+    private Set<Long> requestedIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ProductBatchException("At least one product ID is required");
+        }
+        for (Long id : ids) {
+            if (id == null) {
+                throw new ProductBatchException("Product IDs must not be null");
+            }
+        }
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        if (requestedIds.size() > batchProperties.getMaxIds()) {
+            throw new ProductBatchException("Cannot fetch more than " + batchProperties.getMaxIds() + " products at once");
+        }
+        return requestedIds;
+    }
+
+    private ProductBatchResponse toBatchResponse(Set<Long> requestedIds, Map<Long, ReactiveProduct> found) {
+        List<Product> products = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            ReactiveProduct product = found.get(id);
+            if (product != null) {
+                products.add(product.toProduct());
+            } else {
+                missingIds.add(id);
+            }
+        }
+        logger.info("Retrieved {} of {} requested products", products.size(), requestedIds.size());
+        return new ProductBatchResponse(products, missingIds);
+    }
+}
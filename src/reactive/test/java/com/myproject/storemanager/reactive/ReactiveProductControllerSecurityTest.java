@@ -0,0 +1,151 @@
+package com.myproject.storemanager.reactive;
+
+import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.api.response.ProductBatchResponse;
+import com.myproject.storemanager.exception.ProductNotFoundException;
+import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.reactive.service.ReactiveProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = ReactiveStoreManagerApplication.class, properties = {"spring.main.web-application-type=reactive",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-testdb"})
+@AutoConfigureWebTestClient
+@ActiveProfiles(ReactiveStoreManagerApplication.PROFILE)
+public class ReactiveProductControllerSecurityTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveProductService productService;
+    private Product product;
+
+    @BeforeEach
+    public void setup() {
+        product = new Product("Test Product", 100.0);
+        product.setId(1L);
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testGetAllProducts() {
+        when(productService.findAll()).thenReturn(Flux.just(product));
+        webTestClient.get().uri("/products")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(1)
+                .jsonPath("$[0].name").isEqualTo("Test Product")
+                .jsonPath("$[0].price").isEqualTo(100.0);
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testGetAllProducts_asNdjsonStream() {
+        Product second = new Product("Second Product", 50.0);
+        second.setId(2L);
+        when(productService.findAll()).thenReturn(Flux.just(product, second));
+        webTestClient.get().uri("/products")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(Product.class).hasSize(2);
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testGetProductById_whenIdDoesNotExist() {
+        when(productService.findById(2L)).thenReturn(Mono.error(new ProductNotFoundException(2L)));
+        webTestClient.get().uri("/products/id/2")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testGetProductsByIdsInBody() {
+        when(productService.findByIds(Arrays.asList(1L, 2L)))
+                .thenReturn(Mono.just(new ProductBatchResponse(Collections.singletonList(product), Collections.singletonList(2L))));
+        webTestClient.post().uri("/products/ids")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[1, 2]")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.products[0].name").isEqualTo("Test Product")
+                .jsonPath("$.missingIds[0]").isEqualTo(2);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void testCreateProduct_withPermittedUser() {
+        when(productService.addProduct(any(ProductRequest.class))).thenReturn(Mono.just(product));
+        webTestClient.post().uri("/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"Test Product\",\"price\":100.0}")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testCreateProduct_withForbiddenUser() {
+        webTestClient.post().uri("/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"Test Product\",\"price\":100.0}")
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testDeleteProduct_withForbiddenUser() {
+        webTestClient.delete().uri("/products/1")
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testGetAllProducts_withFieldsIsNotImplemented() {
+        webTestClient.get().uri("/products?fields=id,price")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testStockAndSnapshotRoutesAreNotImplemented() {
+        webTestClient.get().uri("/products/1/stock")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+        webTestClient.post().uri("/products/1/reservations?quantity=1")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+        webTestClient.get().uri("/products/snapshot")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+    }
+}
@@ -0,0 +1,90 @@
+package com.myproject.storemanager.reactive;
+
+import com.myproject.storemanager.StoreManagerApplication;
+import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.loadtest.EndpointResult;
+import com.myproject.storemanager.loadtest.LoadTestSettings;
+import com.myproject.storemanager.loadtest.ProductWorkload;
+import com.myproject.storemanager.reactive.service.ReactiveProductService;
+import com.myproject.storemanager.service.ProductService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// Runs the same workload against the servlet and the reactive stack at a high client count
+// (-Dloadtest.clients, default 512) and prints both result sets side by side.
+@Tag("load")
+public class ReactiveStackLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveStackLoadTest.class);
+
+    private static final List<String> NAME_TERMS =
+            List.of("phone", "laptop", "chair", "lamp", "coffee", "shoe", "watch", "guitar");
+
+    @Test
+    public void testHighConcurrency_servletVersusReactive() throws Exception {
+        LoadTestSettings defaults = LoadTestSettings.fromSystemProperties();
+        LoadTestSettings settings = new LoadTestSettings(defaults.getCatalogSize(),
+                Integer.getInteger("loadtest.clients", 512), defaults.getWarmupSeconds(),
+                defaults.getDurationSeconds(), defaults.getTolerance(), false);
+
+        List<EndpointResult> servlet;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StoreManagerApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.com.myproject.storemanager=WARN",
+                        "logging.level." + ReactiveStackLoadTest.class.getName() + "=INFO",
+                        "storemanager.security.bcrypt-strength=4")
+                .run()) {
+            ProductService productService = context.getBean(ProductService.class);
+            servlet = run(context, settings, request -> productService.addProduct(request).getId());
+        }
+
+        List<EndpointResult> reactive;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ReactiveStoreManagerApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(ReactiveStoreManagerApplication.PROFILE)
+                .properties("server.port=0", "logging.level.com.myproject.storemanager=WARN",
+                        "logging.level." + ReactiveStackLoadTest.class.getName() + "=INFO",
+                        "storemanager.security.bcrypt-strength=4",
+                        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-loadtest")
+                .run()) {
+            ReactiveProductService productService = context.getBean(ReactiveProductService.class);
+            reactive = run(context, settings, request -> productService.addProduct(request).block().getId());
+        }
+
+        logger.info("Servlet stack with {} clients:", settings.getClients());
+        servlet.forEach(result -> logger.info("{}", result));
+        logger.info("Reactive stack with {} clients:", settings.getClients());
+        reactive.forEach(result -> logger.info("{}", result));
+
+        for (EndpointResult result : reactive) {
+            Assertions.assertTrue(result.getRequests() > 0, "No requests completed for " + result.getEndpoint());
+            Assertions.assertEquals(0, result.getErrors(), "Failed requests for " + result.getEndpoint());
+        }
+    }
+
+    private List<EndpointResult> run(ConfigurableApplicationContext context, LoadTestSettings settings,
+                                     Function<ProductRequest, Long> addProduct) throws InterruptedException {
+        List<Long> productIds = new ArrayList<>(settings.getCatalogSize());
+        for (int i = 0; i < settings.getCatalogSize(); i++) {
+            String term = NAME_TERMS.get(i % NAME_TERMS.size());
+            ProductRequest request = new ProductRequest();
+            request.setName(Character.toUpperCase(term.charAt(0)) + term.substring(1) + " model " + i);
+            request.setPrice(1 + (i % 500) * 0.5);
+            productIds.add(addProduct.apply(request));
+        }
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return new ProductWorkload("http://localhost:" + port, productIds, NAME_TERMS, settings).run();
+    }
+}
@@ -0,0 +1,58 @@
+package com.myproject.storemanager.reactive.service;
+
+import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.exception.ProductBatchException;
+import com.myproject.storemanager.exception.StockQuantityException;
+import com.myproject.storemanager.reactive.repository.ReactiveProductRepository;
+import com.myproject.storemanager.service.ProductBatchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveProductServiceTest {
+
+    @Mock
+    private ReactiveProductRepository productRepository;
+
+    @Mock
+    private R2dbcEntityTemplate entityTemplate;
+
+    private ReactiveProductService productService;
+
+    @BeforeEach
+    public void setup() {
+        productService = new ReactiveProductService(productRepository, entityTemplate, new ProductBatchProperties());
+    }
+
+    @Test
+    public void testFindByIds_rejectsNullIds() {
+        StepVerifier.create(productService.findByIds(Arrays.asList(1L, null)))
+                .expectError(ProductBatchException.class)
+                .verify();
+        verify(productRepository, never()).findAllById(any(Iterable.class));
+    }
+
+    @Test
+    public void testUpdateProduct_rejectsStock() {
+        ProductRequest request = new ProductRequest();
+        request.setName("Renamed Product");
+        request.setStock(5L);
+
+        StepVerifier.create(productService.updateProduct(1L, request))
+                .expectError(StockQuantityException.class)
+                .verify();
+        verifyNoInteractions(productRepository, entityTemplate);
+    }
+}
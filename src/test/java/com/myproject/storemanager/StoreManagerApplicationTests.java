@@ -2,10 +2,23 @@ package com.myproject.storemanager;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.api.response.ProductBatchResponse;
+import com.myproject.storemanager.audit.AuditOperation;
+import com.myproject.storemanager.audit.AuditService;
+import com.myproject.storemanager.exception.AuditException;
+import com.myproject.storemanager.exception.ProductBatchException;
 import com.myproject.storemanager.exception.ProductNotFoundException;
 import com.myproject.storemanager.model.Product;
 import com.myproject.storemanager.repository.ProductRepository;
+import com.myproject.storemanager.service.ProductBatchProperties;
+import com.myproject.storemanager.service.ProductCache;
+import com.myproject.storemanager.service.ProductSearchCoalescer;
+import com.myproject.storemanager.service.ProductSearchProperties;
 import com.myproject.storemanager.service.ProductService;
+import com.myproject.storemanager.shard.ShardProperties;
+import com.myproject.storemanager.shard.ShardRouter;
+import com.myproject.storemanager.stock.StockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,10 +27,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.*;
@@ -28,13 +48,25 @@ class StoreManagerApplicationTests {
 	@Mock
 	private ProductRepository productRepository;
 
+	@Mock
+	private AuditService auditService;
+
+	@Mock
+	private StockService stockService;
+
 	@InjectMocks
 	private ProductService productService;
     private Product product;
+	private SimpleMeterRegistry meterRegistry;
 
 	@BeforeEach
 	public void setup() {
-		productService = new ProductService(productRepository, new ObjectMapper());
+		meterRegistry = new SimpleMeterRegistry();
+		productService = new ProductService(productRepository, new ObjectMapper(),
+				new ShardRouter(new ShardProperties(), productRepository),
+				new ProductSearchCoalescer(new ProductSearchProperties(), meterRegistry),
+				new ProductCache(new ProductBatchProperties()), new ProductBatchProperties(), auditService,
+				stockService);
 
 		product = new Product();
 		product.setId(1L);
@@ -48,24 +80,38 @@ class StoreManagerApplicationTests {
 		request.setName(product.getName());
 		request.setPrice(product.getPrice());
 
-		when(productRepository.save(any(Product.class))).thenAnswer(invocationOnMock -> {
-			Product savedProduct = invocationOnMock.getArgument(0);
-			savedProduct.setId(product.getId());
-			return savedProduct;
-		});
+		when(productRepository.insert(any(Product.class))).thenAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
 
 		Product result = productService.addProduct(request);
 
 		Assertions.assertEquals(product.getId(), result.getId());
 		Assertions.assertEquals(product.getName(), result.getName());
 		Assertions.assertEquals(product.getPrice(), result.getPrice());
-		verify(productRepository, times(1)).save(any(Product.class));
+		verify(productRepository, times(1)).insert(any(Product.class));
+		verify(productRepository, never()).save(any(Product.class));
+		verify(auditService, times(1)).record(AuditOperation.CREATE, result);
+	}
+
+	@Test
+	public void testAddProduct_whenAuditFailsAfterInsert() {
+		ProductRequest request = new ProductRequest();
+		request.setName(product.getName());
+		request.setPrice(product.getPrice());
+
+		when(productRepository.insert(any(Product.class))).thenAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
+		doThrow(new AuditException("Audit writer is not running")).when(auditService)
+				.record(eq(AuditOperation.CREATE), any(Product.class));
+
+		Product result = productService.addProduct(request);
+
+		Assertions.assertEquals(product.getName(), result.getName());
+		verify(productRepository, times(1)).insert(any(Product.class));
 	}
 
 	@Test
 	public void testFindAllProducts() {
 		List<Product> products = Collections.singletonList(product);
-		when(productRepository.findAll()).thenReturn(products);
+		when(productRepository.findAllByOrderByIdAsc()).thenReturn(products);
 
 		List<Product> result = productService.findAll();
 
@@ -75,7 +121,7 @@ class StoreManagerApplicationTests {
 		Assertions.assertEquals(product.getName(), result.get(0).getName());
 		Assertions.assertEquals(product.getPrice(), result.get(0).getPrice());
 
-		verify(productRepository, times(1)).findAll();
+		verify(productRepository, times(1)).findAllByOrderByIdAsc();
 
 		Product secondProduct = new Product();
 		secondProduct.setId(2L);
@@ -83,7 +129,7 @@ class StoreManagerApplicationTests {
 		secondProduct.setPrice(100.0);
 
 		products = Arrays.asList(product, secondProduct);
-		when(productRepository.findAll()).thenReturn(products);
+		when(productRepository.findAllByOrderByIdAsc()).thenReturn(products);
 
 		result = productService.findAll();
 
@@ -93,7 +139,7 @@ class StoreManagerApplicationTests {
 		Assertions.assertEquals(secondProduct.getName(), result.get(1).getName());
 		Assertions.assertEquals(secondProduct.getPrice(), result.get(1).getPrice());
 
-		verify(productRepository, times(2)).findAll();
+		verify(productRepository, times(2)).findAllByOrderByIdAsc();
 	}
 
 	@Test
@@ -124,7 +170,7 @@ class StoreManagerApplicationTests {
 	public void testFindByName_whenThereAreProductsWithNameContainingKeyword() {
 		String keyword = "test";
 		List<Product> productsSingleton = Collections.singletonList(product);
-		when(productRepository.findByNameContainingIgnoreCase(keyword)).thenReturn(productsSingleton);
+		when(productRepository.findByNameContainingIgnoreCaseOrderByIdAsc(keyword)).thenReturn(productsSingleton);
 
 		List<Product> result = productService.findByName(keyword);
 
@@ -134,7 +180,7 @@ class StoreManagerApplicationTests {
 		Assertions.assertEquals(product.getName(), result.get(0).getName());
 		Assertions.assertEquals(product.getPrice(), result.get(0).getPrice());
 
-		verify(productRepository, times(1)).findByNameContainingIgnoreCase(keyword);
+		verify(productRepository, times(1)).findByNameContainingIgnoreCaseOrderByIdAsc(keyword);
 
 		Product secondProduct = new Product();
 		secondProduct.setId(2L);
@@ -147,7 +193,7 @@ class StoreManagerApplicationTests {
 		thirdProduct.setPrice(100.0);
 
 		List<Product> products = Arrays.asList(product, secondProduct, thirdProduct);
-		when(productRepository.findByNameContainingIgnoreCase(keyword)).thenAnswer(invocationOnMock -> {
+		when(productRepository.findByNameContainingIgnoreCaseOrderByIdAsc(keyword)).thenAnswer(invocationOnMock -> {
 			String keywordArgument = invocationOnMock.getArgument(0);
 			return products.stream()
 					.filter(p -> p.getName().toLowerCase().contains(keywordArgument.toLowerCase()))
@@ -162,19 +208,126 @@ class StoreManagerApplicationTests {
 		Assertions.assertEquals(thirdProduct.getName(), result.get(1).getName());
 		Assertions.assertEquals(thirdProduct.getPrice(), result.get(1).getPrice());
 
-		verify(productRepository, times(2)).findByNameContainingIgnoreCase(keyword);
+		verify(productRepository, times(2)).findByNameContainingIgnoreCaseOrderByIdAsc(keyword);
 	}
 
 	@Test
 	public void testFindByName_whenThereAreNoProductsWithNameContainingKeyword() {
 		String keyword = "best";
-		when(productRepository.findByNameContainingIgnoreCase(keyword)).thenReturn(Collections.emptyList());
+		when(productRepository.findByNameContainingIgnoreCaseOrderByIdAsc(keyword)).thenReturn(Collections.emptyList());
 
 		ProductNotFoundException exception = Assertions
 				.assertThrows(ProductNotFoundException.class, () -> productService.findByName(keyword));
 
 		Assertions.assertEquals("No results for: " + keyword, exception.getMessage());
-		verify(productRepository, times(1)).findByNameContainingIgnoreCase(keyword);
+		verify(productRepository, times(1)).findByNameContainingIgnoreCaseOrderByIdAsc(keyword);
+	}
+
+	@Test
+	public void testFindByName_whenConcurrentSearchesShareOneQuery() throws Exception {
+		int clients = 8;
+		CountDownLatch release = new CountDownLatch(1);
+		when(productRepository.findByNameContainingIgnoreCaseOrderByIdAsc("test")).thenAnswer(invocationOnMock -> {
+			release.await(10, TimeUnit.SECONDS);
+			return Collections.singletonList(product);
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(clients);
+		try {
+			List<Future<List<Product>>> results = new ArrayList<>();
+			for (int i = 0; i < clients; i++) {
+				String keyword = i % 2 == 0 ? "Test" : "TEST";
+				results.add(executor.submit(() -> productService.findByName(keyword)));
+			}
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (meterRegistry.counter("storemanager.search.requests", "outcome", "coalesced").count() < clients - 1
+					&& System.nanoTime() < deadline) {
+				Thread.sleep(5);
+			}
+			release.countDown();
+
+			for (Future<List<Product>> result : results) {
+				Assertions.assertEquals(product.getId(), result.get(10, TimeUnit.SECONDS).get(0).getId());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		verify(productRepository, times(1)).findByNameContainingIgnoreCaseOrderByIdAsc("test");
+		Assertions.assertEquals((clients - 1) / (double) clients,
+				meterRegistry.get("storemanager.search.coalescing.ratio").gauge().value(), 0.0001);
+	}
+
+	@Test
+	public void testSearch_whenSharedLoaderFailsWithErrorEveryCallerGetsIt() throws Exception {
+		int clients = 4;
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		ProductSearchCoalescer coalescer = new ProductSearchCoalescer(new ProductSearchProperties(), registry);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(clients);
+		try {
+			List<Future<List<Product>>> results = new ArrayList<>();
+			for (int i = 0; i < clients; i++) {
+				results.add(executor.submit(() -> coalescer.search("test", query -> {
+					try {
+						release.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					throw new AssertionError("Loader failed");
+				})));
+			}
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (registry.counter("storemanager.search.requests", "outcome", "coalesced").count() < clients - 1
+					&& System.nanoTime() < deadline) {
+				Thread.sleep(5);
+			}
+			release.countDown();
+
+			for (Future<List<Product>> result : results) {
+				ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+						() -> result.get(10, TimeUnit.SECONDS));
+				Assertions.assertInstanceOf(AssertionError.class, e.getCause());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testFindByIds_returnsProductsInRequestOrderWithMissingIds() {
+		Product secondProduct = new Product("Test Product 2", 50.0);
+		secondProduct.setId(2L);
+		when(productRepository.findAllById(anyIterable())).thenReturn(Arrays.asList(product, secondProduct));
+
+		ProductBatchResponse result = productService.findByIds(Arrays.asList(2L, 3L, 1L, 2L));
+
+		Assertions.assertEquals(Arrays.asList(2L, 1L),
+				result.getProducts().stream().map(Product::getId).collect(Collectors.toList()));
+		Assertions.assertEquals(Collections.singletonList(3L), result.getMissingIds());
+		verify(productRepository, times(1)).findAllById(Arrays.asList(2L, 3L, 1L));
+	}
+
+	@Test
+	public void testFindByIds_servesCachedProductsWithoutQuery() {
+		when(productRepository.findAllById(anyIterable())).thenReturn(Collections.singletonList(product));
+
+		productService.findByIds(Collections.singletonList(product.getId()));
+		ProductBatchResponse result = productService.findByIds(Collections.singletonList(product.getId()));
+
+		Assertions.assertEquals(product.getId(), result.getProducts().get(0).getId());
+		Assertions.assertTrue(result.getMissingIds().isEmpty());
+		verify(productRepository, times(1)).findAllById(anyIterable());
+	}
+
+	@Test
+	public void testFindByIds_whenNoIdsAreGiven() {
+		Assertions.assertThrows(ProductBatchException.class, () -> productService.findByIds(Collections.emptyList()));
+
+		verify(productRepository, never()).findAllById(anyIterable());
 	}
 
 	@Test
@@ -234,6 +387,8 @@ class StoreManagerApplicationTests {
 
 		verify(productRepository, times(1)).existsById(product.getId());
 		verify(productRepository, times(1)).deleteById(product.getId());
+		verify(auditService, times(1)).record(AuditOperation.DELETE, product.getId(), null, null);
+		verify(stockService, times(1)).evict(product.getId());
 	}
 
 	@Test
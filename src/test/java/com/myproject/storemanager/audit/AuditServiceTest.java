@@ -0,0 +1,138 @@
+package com.myproject.storemanager.audit;
+
+import com.myproject.storemanager.exception.AuditException;
+import com.myproject.storemanager.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class AuditServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditService auditService;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        auditService = new AuditService(properties(), meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        auditService.shutdown();
+    }
+
+    @Test
+    public void testHistory_returnsEventsOfOneProductAcrossSegments() throws Exception {
+        int events = 500;
+        for (int i = 0; i < events; i++) {
+            Product product = new Product("Product " + i, (double) i);
+            product.setId((long) (i % 5));
+            auditService.record(i < 5 ? AuditOperation.CREATE : AuditOperation.UPDATE, product);
+        }
+        auditService.record(AuditOperation.DELETE, 3L, null, null);
+
+        awaitWritten(events + 1);
+        List<AuditEvent> history = auditService.history(3L);
+
+        Assertions.assertEquals(events / 5 + 1, history.size());
+        Assertions.assertEquals(AuditOperation.CREATE, history.get(0).operation());
+        Assertions.assertEquals("Product 3", history.get(0).name());
+        Assertions.assertEquals("Product 498", history.get(history.size() - 2).name());
+        Assertions.assertEquals(498.0, history.get(history.size() - 2).price());
+        Assertions.assertEquals(AuditOperation.DELETE, history.get(history.size() - 1).operation());
+        Assertions.assertNull(history.get(history.size() - 1).price());
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertTrue(files.filter(file -> file.toString().endsWith(".log")).count() > 1);
+        }
+    }
+
+    @Test
+    public void testHistory_findsEventsInSealedSegmentsAfterRestart() throws Exception {
+        int events = 300;
+        for (int i = 0; i < events; i++) {
+            auditService.record(AuditOperation.UPDATE, (long) (i % 7), "Product " + i, (double) i);
+        }
+        awaitWritten(events);
+        auditService.shutdown();
+
+        auditService = new AuditService(properties(), meterRegistry);
+        List<AuditEvent> history = auditService.history(6L);
+
+        Assertions.assertEquals(events / 7, history.size());
+        Assertions.assertEquals("Product 6", history.get(0).name());
+        Assertions.assertEquals("Product 293", history.get(history.size() - 1).name());
+        Assertions.assertTrue(auditService.history(42L).isEmpty());
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertTrue(files.anyMatch(file -> file.toString().endsWith(".sdx")));
+        }
+    }
+
+    @Test
+    public void testHistory_ignoresTornIndexEntryLeftByCrash() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            auditService.record(AuditOperation.UPDATE, (long) (i % 2), "Product " + i, (double) i);
+        }
+        awaitWritten(20);
+        auditService.shutdown();
+        Path activeIndex;
+        try (Stream<Path> files = Files.list(directory)) {
+            activeIndex = files.filter(file -> file.toString().endsWith(".idx")).max(Path::compareTo).orElseThrow();
+        }
+        // Half an entry pointing past the end of the log
+        Files.write(activeIndex, new byte[]{0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0}, StandardOpenOption.APPEND);
+
+        meterRegistry = new SimpleMeterRegistry();
+        auditService = new AuditService(properties(), meterRegistry);
+        for (int i = 20; i < 30; i++) {
+            auditService.record(AuditOperation.UPDATE, (long) (i % 2), "Product " + i, (double) i);
+        }
+        awaitWritten(10);
+
+        List<AuditEvent> history = auditService.history(1L);
+        Assertions.assertEquals(15, history.size());
+        Assertions.assertEquals("Product 29", history.get(history.size() - 1).name());
+    }
+
+    @Test
+    public void testRecord_failsInsteadOfBlockingWhenWriterIsGone() throws Exception {
+        auditService.shutdown();
+
+        Assertions.assertThrows(AuditException.class, () -> {
+            for (int i = 0; i < 128; i++) {
+                auditService.record(AuditOperation.DELETE, (long) i, null, null);
+            }
+        });
+        Assertions.assertEquals(1.0, meterRegistry.counter("storemanager.audit.events", "outcome", "dropped").count());
+    }
+
+    private AuditProperties properties() {
+        AuditProperties properties = new AuditProperties();
+        properties.setDirectory(directory);
+        properties.setBufferSize(64);
+        properties.setSegmentSize(DataSize.ofKilobytes(4));
+        return properties;
+    }
+
+    private void awaitWritten(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.counter("storemanager.audit.events", "outcome", "written").count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
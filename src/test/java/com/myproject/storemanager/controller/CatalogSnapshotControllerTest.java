@@ -0,0 +1,166 @@
+package com.myproject.storemanager.controller;
+
+import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.repository.ProductRepository;
+import com.myproject.storemanager.service.ProductService;
+import com.myproject.storemanager.snapshot.CatalogSnapshotService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class CatalogSnapshotControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    private byte[] snapshot;
+    private String etag;
+
+    @DynamicPropertySource
+    static void snapshotProperties(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("snapshots");
+        registry.add("storemanager.snapshot.directory", directory::toString);
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:snapshot-testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    @BeforeEach
+    public void setup() throws IOException {
+        productRepository.deleteAllInBatch();
+        for (int i = 1; i <= 3; i++) {
+            ProductRequest request = new ProductRequest();
+            request.setName("Snapshot Product " + i);
+            request.setPrice(10.0 * i);
+            productService.addProduct(request);
+        }
+        Path file = catalogSnapshotService.writeSnapshot();
+        snapshot = Files.readAllBytes(file);
+        etag = "\"" + file.getFileName() + "\"";
+    }
+
+    @Test
+    public void testDownloadSnapshot_returnsWholeFile() throws Exception {
+        mockMvc.perform(get("/products/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(snapshot));
+    }
+
+    @Test
+    public void testDownloadSnapshot_withRange() throws Exception {
+        mockMvc.perform(get("/products/snapshot").header(HttpHeaders.RANGE, "bytes=0-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-9/" + snapshot.length))
+                .andExpect(content().bytes(Arrays.copyOfRange(snapshot, 0, 10)));
+    }
+
+    @Test
+    public void testDownloadSnapshot_withOpenEndedRangeResumesDownload() throws Exception {
+        mockMvc.perform(get("/products/snapshot").header(HttpHeaders.RANGE, "bytes=10-").header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE,
+                        "bytes 10-" + (snapshot.length - 1) + "/" + snapshot.length))
+                .andExpect(content().bytes(Arrays.copyOfRange(snapshot, 10, snapshot.length)));
+    }
+
+    @Test
+    public void testDownloadSnapshot_withSuffixRange() throws Exception {
+        mockMvc.perform(get("/products/snapshot").header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + (snapshot.length - 5) + "-" + (snapshot.length - 1) + "/" + snapshot.length))
+                .andExpect(content().bytes(Arrays.copyOfRange(snapshot, snapshot.length - 5, snapshot.length)));
+    }
+
+    @Test
+    public void testDownloadSnapshot_whenIfRangeDoesNotMatchReturnsWholeFile() throws Exception {
+        mockMvc.perform(get("/products/snapshot").header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(snapshot));
+    }
+
+    @Test
+    public void testDownloadSnapshot_whenRangeStartsPastEnd() throws Exception {
+        mockMvc.perform(get("/products/snapshot").header(HttpHeaders.RANGE, "bytes=" + snapshot.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + snapshot.length));
+    }
+
+    @Test
+    public void testDownloadSnapshot_whenRangeIsInvalidReturnsWholeFile() throws Exception {
+        mockMvc.perform(get("/products/snapshot").header(HttpHeaders.RANGE, "bytes=5-3"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(snapshot));
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testRestoreSnapshot_withForbiddenUser() throws Exception {
+        mockMvc.perform(post("/admin/snapshot")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(snapshot))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testRestoreSnapshot_withoutCredentials() throws Exception {
+        mockMvc.perform(post("/admin/snapshot")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(snapshot))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void testRestoreSnapshot_roundTrip() throws Exception {
+        byte[] downloaded = mockMvc.perform(get("/products/snapshot"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        productRepository.deleteAllInBatch();
+        ProductRequest request = new ProductRequest();
+        request.setName("Created After Snapshot");
+        request.setPrice(1.0);
+        productService.addProduct(request);
+
+        mockMvc.perform(post("/admin/snapshot")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(downloaded))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Restored 3 products from snapshot"));
+
+        Assertions.assertEquals(3, productRepository.count());
+        Assertions.assertEquals(Arrays.asList("Snapshot Product 1", "Snapshot Product 2", "Snapshot Product 3"),
+                productRepository.findAllByOrderByIdAsc().stream().map(Product::getName).toList());
+    }
+}
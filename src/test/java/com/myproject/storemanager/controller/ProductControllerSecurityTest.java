@@ -2,7 +2,11 @@ package com.myproject.storemanager.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.api.response.ProductBatchResponse;
+import com.myproject.storemanager.api.response.ProductViewResponse;
 import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.model.ProductFieldSet;
+import com.myproject.storemanager.model.ProductView;
 import com.myproject.storemanager.repository.ProductRepository;
 import com.myproject.storemanager.service.ProductService;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +22,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -91,6 +96,65 @@ public class ProductControllerSecurityTest {
                 .andExpect(jsonPath("$[0].price").value(100.0));
     }
 
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testGetProductsByIds() throws Exception {
+        when(productService.findByIds(Arrays.asList(1L, 2L)))
+                .thenReturn(new ProductBatchResponse(Collections.singletonList(product), Collections.singletonList(2L)));
+        mockMvc.perform(get("/products/ids").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products.length()").value(1))
+                .andExpect(jsonPath("$.products[0].id").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testGetProductsByIdsInBody() throws Exception {
+        when(productService.findByIds(Arrays.asList(1L, 2L)))
+                .thenReturn(new ProductBatchResponse(Collections.singletonList(product), Collections.singletonList(2L)));
+        mockMvc.perform(post("/products/ids")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[0].name").value("Test Product"))
+                .andExpect(jsonPath("$.missingIds[0]").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testGetAllProducts_withFields() throws Exception {
+        when(productService.findAllViews(any(ProductFieldSet.class)))
+                .thenReturn(Collections.singletonList(new ProductView(1L, null, 100.0, null)));
+        mockMvc.perform(get("/products").param("fields", "price,id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].price").value(100.0))
+                .andExpect(jsonPath("$[0].name").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testGetProductsByIds_withFields() throws Exception {
+        ProductFieldSet fields = ProductFieldSet.parse("name");
+        when(productService.findViewsByIds(eq(Arrays.asList(1L, 2L)), any(ProductFieldSet.class)))
+                .thenReturn(ProductViewResponse.batch(fields,
+                        Collections.singletonList(new ProductView(1L, "Test Product", null, null)),
+                        Collections.singletonList(2L)));
+        mockMvc.perform(get("/products/ids").param("ids", "1,2").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[0].name").value("Test Product"))
+                .andExpect(jsonPath("$.products[0].price").doesNotExist())
+                .andExpect(jsonPath("$.missingIds[0]").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "customer", roles = {"CUSTOMER"})
+    public void testGetProductById_withUnknownField() throws Exception {
+        mockMvc.perform(get("/products/id/1").param("fields", "id,colour"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     public void testCreateProduct_withPermittedUser() throws Exception {
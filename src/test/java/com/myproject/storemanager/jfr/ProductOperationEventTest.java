@@ -0,0 +1,85 @@
+package com.myproject.storemanager.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myproject.storemanager.audit.AuditService;
+import com.myproject.storemanager.exception.ProductNotFoundException;
+import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.repository.ProductRepository;
+import com.myproject.storemanager.service.ProductBatchProperties;
+import com.myproject.storemanager.service.ProductCache;
+import com.myproject.storemanager.service.ProductSearchCoalescer;
+import com.myproject.storemanager.service.ProductSearchProperties;
+import com.myproject.storemanager.service.ProductService;
+import com.myproject.storemanager.shard.ShardProperties;
+import com.myproject.storemanager.shard.ShardRouter;
+import com.myproject.storemanager.stock.StockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductOperationEventTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private StockService stockService;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testProductServiceOperations_areRecorded() throws Exception {
+        ProductService productService = new ProductService(productRepository, new ObjectMapper(),
+                new ShardRouter(new ShardProperties(), productRepository),
+                new ProductSearchCoalescer(new ProductSearchProperties(), new SimpleMeterRegistry()),
+                new ProductCache(new ProductBatchProperties()), new ProductBatchProperties(), auditService,
+                stockService);
+        Product product = new Product("Test Product", 100.0);
+        product.setId(1L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.findByNameContainingIgnoreCaseOrderByIdAsc("missing")).thenReturn(Collections.emptyList());
+
+        Path dump = directory.resolve("operations.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ProductOperationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            productService.findById(1L);
+            Assertions.assertThrows(ProductNotFoundException.class, () -> productService.findByName("missing"));
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals("storemanager.ProductOperation"))
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals("findById", events.get(0).getString("operation"));
+        Assertions.assertEquals(1L, events.get(0).getLong("productId"));
+        Assertions.assertEquals(1, events.get(0).getInt("resultCount"));
+        Assertions.assertEquals("findByName", events.get(1).getString("operation"));
+        Assertions.assertEquals("missing", events.get(1).getString("query"));
+        Assertions.assertEquals(0, events.get(1).getInt("resultCount"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.myproject.storemanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+public class EndpointResult {
+
+    private final String endpoint;
+    private final Histogram histogram;
+    private final long errors;
+    private final double seconds;
+
+    public EndpointResult(String endpoint, Histogram histogram, long errors, double seconds) {
+        this.endpoint = endpoint;
+        this.histogram = histogram;
+        this.errors = errors;
+        this.seconds = seconds;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getRequests() {
+        return histogram.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughput() {
+        return histogram.getTotalCount() / seconds;
+    }
+
+    public double getPercentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getP99Millis() {
+        return getPercentileMillis(99.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-10s requests=%-7d errors=%-4d throughput=%8.1f/s p50=%7.2fms p99=%7.2fms p99.9=%7.2fms max=%7.2fms",
+                endpoint, getRequests(), errors, getThroughput(), getPercentileMillis(50.0), getP99Millis(),
+                getPercentileMillis(99.9), histogram.getMaxValue() / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
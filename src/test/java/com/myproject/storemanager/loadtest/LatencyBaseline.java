@@ -0,0 +1,66 @@
+package com.myproject.storemanager.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+public class LatencyBaseline {
+
+    private final Properties properties;
+
+    private LatencyBaseline(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static LatencyBaseline load(String resource) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LatencyBaseline.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Missing load test baseline: " + resource);
+            }
+            properties.load(in);
+        }
+        return new LatencyBaseline(properties);
+    }
+
+    public List<String> findRegressions(List<EndpointResult> results, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (EndpointResult result : results) {
+            String p99 = properties.getProperty(result.getEndpoint() + ".p99Millis");
+            String throughput = properties.getProperty(result.getEndpoint() + ".minThroughput");
+
+            if (p99 != null && result.getP99Millis() > Double.parseDouble(p99) * tolerance) {
+                regressions.add(String.format("%s p99 %.2fms exceeds baseline %sms (tolerance x%.2f)",
+                        result.getEndpoint(), result.getP99Millis(), p99, tolerance));
+            }
+            if (throughput != null && result.getThroughput() < Double.parseDouble(throughput) / tolerance) {
+                regressions.add(String.format("%s throughput %.1f/s is below baseline %s/s (tolerance x%.2f)",
+                        result.getEndpoint(), result.getThroughput(), throughput, tolerance));
+            }
+        }
+        return regressions;
+    }
+
+    public static void write(Path file, List<EndpointResult> results, LoadTestSettings settings) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write("# Generated by ProductLoadTest. Copy to src/test/resources/loadtest/baseline.properties to accept.\n");
+            writer.write(String.format(Locale.ROOT, "# Measured with %d clients, %d products, %ds on %d CPUs, %d MB max heap"
+                            + " (Java %s, %s %s %s).%n",
+                    settings.getClients(), settings.getCatalogSize(), settings.getDurationSeconds(),
+                    Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().maxMemory() / (1024 * 1024),
+                    System.getProperty("java.version"), System.getProperty("os.name"),
+                    System.getProperty("os.version"), System.getProperty("os.arch")));
+            for (EndpointResult result : results) {
+                writer.write(String.format(Locale.ROOT, "%s.p99Millis=%.2f%n", result.getEndpoint(), result.getP99Millis()));
+                writer.write(String.format(Locale.ROOT, "%s.minThroughput=%.1f%n", result.getEndpoint(), result.getThroughput()));
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.myproject.storemanager.loadtest;
+
+public class LoadTestSettings {
+
+    private final int catalogSize;
+    private final int clients;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final double tolerance;
+    private final boolean writeBaseline;
+
+    public LoadTestSettings(int catalogSize, int clients, int warmupSeconds, int durationSeconds,
+                            double tolerance, boolean writeBaseline) {
+        this.catalogSize = catalogSize;
+        this.clients = clients;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.tolerance = tolerance;
+        this.writeBaseline = writeBaseline;
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.catalogSize", 2000),
+                Integer.getInteger("loadtest.clients", 32),
+                Integer.getInteger("loadtest.warmupSeconds", 5),
+                Integer.getInteger("loadtest.durationSeconds", 20),
+                Double.parseDouble(System.getProperty("loadtest.tolerance", "1.25")),
+                Boolean.getBoolean("loadtest.writeBaseline"));
+    }
+
+    public int getCatalogSize() {
+        return catalogSize;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public boolean isWriteBaseline() {
+        return writeBaseline;
+    }
+}
@@ -0,0 +1,81 @@
+package com.myproject.storemanager.loadtest;
+
+import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.repository.ProductRepository;
+import com.myproject.storemanager.service.ProductService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {"spring.jpa.show-sql=false",
+        "logging.level.com.myproject.storemanager=WARN", "logging.level.com.myproject.storemanager.loadtest=INFO",
+        // Writes still authenticate, at the lowest BCrypt cost so hashing does not dominate the measurements
+        "storemanager.security.bcrypt-strength=4"})
+@ActiveProfiles("test")
+public class ProductLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductLoadTest.class);
+
+    private static final List<String> NAME_TERMS =
+            List.of("phone", "laptop", "chair", "lamp", "coffee", "shoe", "watch", "guitar");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private List<Long> productIds;
+
+    @BeforeEach
+    public void seedCatalog() {
+        productRepository.deleteAllInBatch();
+
+        productIds = new ArrayList<>(settings.getCatalogSize());
+        for (int i = 0; i < settings.getCatalogSize(); i++) {
+            String term = NAME_TERMS.get(i % NAME_TERMS.size());
+            ProductRequest request = new ProductRequest();
+            request.setName(Character.toUpperCase(term.charAt(0)) + term.substring(1) + " model " + i);
+            request.setPrice(1 + (i % 500) * 0.5);
+            productIds.add(productService.addProduct(request).getId());
+        }
+    }
+
+    @Test
+    public void testMixedWorkload_staysWithinBaseline() throws Exception {
+        ProductWorkload workload = new ProductWorkload("http://localhost:" + port, productIds, NAME_TERMS, settings);
+
+        List<EndpointResult> results = workload.run();
+        results.forEach(result -> logger.info("{}", result));
+
+        for (EndpointResult result : results) {
+            Assertions.assertTrue(result.getRequests() > 0, "No requests completed for " + result.getEndpoint());
+            Assertions.assertEquals(0, result.getErrors(), "Failed requests for " + result.getEndpoint());
+        }
+
+        if (settings.isWriteBaseline()) {
+            LatencyBaseline.write(Path.of("target", "loadtest", "baseline.properties"), results, settings);
+            return;
+        }
+
+        List<String> regressions = LatencyBaseline.load("/loadtest/baseline.properties")
+                .findRegressions(results, settings.getTolerance());
+        Assertions.assertTrue(regressions.isEmpty(), String.join("\n", regressions));
+    }
+}
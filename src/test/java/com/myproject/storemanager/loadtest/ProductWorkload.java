@@ -0,0 +1,178 @@
+package com.myproject.storemanager.loadtest;
+
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ProductWorkload {
+
+    public static final String GET_ALL = "getAll";
+    public static final String GET_BY_ID = "getById";
+    public static final String GET_BY_NAME = "getByName";
+    public static final String CREATE = "create";
+    public static final String UPDATE = "update";
+
+    private static final String ADMIN = basicAuth("admin", "adminPassword");
+
+    private final String baseUrl;
+    private final List<Long> productIds;
+    private final List<String> nameTerms;
+    private final LoadTestSettings settings;
+    private final Map<String, Integer> mix = new LinkedHashMap<>();
+    private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> errors = new LinkedHashMap<>();
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+    private int totalWeight;
+
+    public ProductWorkload(String baseUrl, List<Long> productIds, List<String> nameTerms, LoadTestSettings settings) {
+        this.baseUrl = baseUrl;
+        this.productIds = productIds;
+        this.nameTerms = nameTerms;
+        this.settings = settings;
+        this.httpExecutor = Executors.newFixedThreadPool(Math.max(2, settings.getClients() / 4));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+
+        withWeight(GET_ALL, 2);
+        withWeight(GET_BY_ID, 50);
+        withWeight(GET_BY_NAME, 30);
+        withWeight(CREATE, 10);
+        withWeight(UPDATE, 8);
+    }
+
+    public ProductWorkload withWeight(String endpoint, int weight) {
+        totalWeight += weight - mix.getOrDefault(endpoint, 0);
+        mix.put(endpoint, weight);
+        recorders.putIfAbsent(endpoint, new Recorder(TimeUnit.SECONDS.toNanos(60), 3));
+        errors.putIfAbsent(endpoint, new AtomicLong());
+        return this;
+    }
+
+    public List<EndpointResult> run() throws InterruptedException {
+        ExecutorService clients = Executors.newFixedThreadPool(settings.getClients());
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.getWarmupSeconds());
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(settings.getDurationSeconds());
+
+        for (int i = 0; i < settings.getClients(); i++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < end) {
+                    execute(pickEndpoint());
+                }
+            });
+        }
+
+        TimeUnit.NANOSECONDS.sleep(warmupEnd - System.nanoTime());
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(counter -> counter.set(0));
+        long measureStart = System.nanoTime();
+
+        clients.shutdown();
+        try {
+            if (!clients.awaitTermination(settings.getDurationSeconds() + 60L, TimeUnit.SECONDS)) {
+                clients.shutdownNow();
+            }
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - measureStart) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        List<EndpointResult> results = new ArrayList<>();
+        recorders.forEach((endpoint, recorder) -> {
+            if (mix.get(endpoint) > 0) {
+                results.add(new EndpointResult(endpoint, recorder.getIntervalHistogram(), errors.get(endpoint).get(), seconds));
+            }
+        });
+        return results;
+    }
+
+    private String pickEndpoint() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty workload mix");
+    }
+
+    private void execute(String endpoint) {
+        HttpRequest request = buildRequest(endpoint);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            recorders.get(endpoint).recordValue(System.nanoTime() - start);
+            if (response.statusCode() >= 300) {
+                errors.get(endpoint).incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            recorders.get(endpoint).recordValue(System.nanoTime() - start);
+            errors.get(endpoint).incrementAndGet();
+        }
+    }
+
+    private HttpRequest buildRequest(String endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long id = productIds.get(random.nextInt(productIds.size()));
+        String term = nameTerms.get(random.nextInt(nameTerms.size()));
+        String body = "{\"name\":\"Load " + term + " " + random.nextInt(1_000_000) + "\",\"price\":"
+                + (1 + random.nextInt(10_000)) / 100.0 + "}";
+
+        switch (endpoint) {
+            case GET_ALL:
+                return get("/products");
+            case GET_BY_ID:
+                return get("/products/id/" + id);
+            case GET_BY_NAME:
+                return get("/products/name/" + term);
+            case CREATE:
+                return write("/products").POST(HttpRequest.BodyPublishers.ofString(body)).build();
+            case UPDATE:
+                return write("/products/" + id).method("PATCH", HttpRequest.BodyPublishers.ofString(body)).build();
+            default:
+                throw new IllegalArgumentException("Unknown endpoint: " + endpoint);
+        }
+    }
+
+    // Reads are permitted without credentials; sending them anyway would make every read pay for a
+    // BCrypt check and the results would measure password hashing instead of the endpoints
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest.Builder write(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", ADMIN)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private static String basicAuth(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
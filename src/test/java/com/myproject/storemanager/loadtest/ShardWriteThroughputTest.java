@@ -0,0 +1,83 @@
+package com.myproject.storemanager.loadtest;
+
+import com.myproject.storemanager.StoreManagerApplication;
+import com.myproject.storemanager.api.request.ProductRequest;
+import com.myproject.storemanager.service.ProductService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Tag("load")
+public class ShardWriteThroughputTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardWriteThroughputTest.class);
+
+    private static final int WRITERS = Integer.getInteger("loadtest.writers", 16);
+    private static final int SECONDS = Integer.getInteger("loadtest.durationSeconds", 10);
+
+    @TempDir
+    Path dataDirectory;
+
+    @Test
+    public void testWriteThroughput_scalesWithShardCount() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int shards = Math.max(2, Math.min(8, cores));
+
+        double single = measureWrites(1);
+        double sharded = measureWrites(shards);
+        logger.info(String.format("writes/s with 1 shard: %.1f, with %d shards: %.1f (x%.2f on %d cores)",
+                single, shards, sharded, sharded / single, cores));
+
+        if (cores >= 4) {
+            Assertions.assertTrue(sharded > single * 1.2,
+                    "Expected sharded write throughput to scale above a single shard");
+        }
+    }
+
+    private double measureWrites(int shardCount) throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StoreManagerApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.myproject.storemanager=WARN",
+                        "logging.level.com.myproject.storemanager.loadtest=INFO",
+                        "storemanager.shards.count=" + shardCount,
+                        "storemanager.shards.url=jdbc:h2:file:" + dataDirectory.resolve("shards-" + shardCount)
+                                .toAbsolutePath() + "/shard-%d",
+                        "spring.datasource.url=jdbc:h2:file:" + dataDirectory.resolve("single-" + shardCount)
+                                .toAbsolutePath() + "/storedb")
+                .run()) {
+            ProductService productService = context.getBean(ProductService.class);
+            ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+            AtomicLong writes = new AtomicLong();
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(SECONDS);
+
+            for (int i = 0; i < WRITERS; i++) {
+                writers.execute(() -> {
+                    ProductRequest request = new ProductRequest();
+                    request.setPrice(9.99);
+                    while (System.nanoTime() < end) {
+                        request.setName("Sharded product " + writes.get());
+                        productService.addProduct(request);
+                        writes.incrementAndGet();
+                    }
+                });
+            }
+            writers.shutdown();
+            writers.awaitTermination(SECONDS + 60L, TimeUnit.SECONDS);
+            return writes.get() / ((System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.myproject.storemanager.loadtest;
+
+import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.repository.ProductRepository;
+import com.myproject.storemanager.service.ProductBatchProperties;
+import com.myproject.storemanager.service.ProductCache;
+import com.myproject.storemanager.shard.ShardProperties;
+import com.myproject.storemanager.shard.ShardRouter;
+import com.myproject.storemanager.stock.StockProperties;
+import com.myproject.storemanager.stock.StockReservation;
+import com.myproject.storemanager.stock.StockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Reserve + commit on a single hot product, with the database mocked out so only the
+// in-memory counters are measured.
+@Tag("load")
+public class StockReservationThroughputTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockReservationThroughputTest.class);
+
+    private static final int SECONDS = Integer.getInteger("loadtest.durationSeconds", 10);
+
+    @Test
+    public void testReservationThroughput_scalesWithThreads() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        double single = measureReservations(1);
+        StringBuilder report = new StringBuilder(String.format("reservations/s with 1 thread: %.0f", single));
+        double all = single;
+        for (int threads = 2; threads <= cores; threads *= 2) {
+            all = measureReservations(threads);
+            report.append(String.format(", %d threads: %.0f (x%.2f)", threads, all, all / single));
+        }
+        logger.info("{} on {} cores", report, cores);
+
+        if (cores >= 4) {
+            Assertions.assertTrue(all > single * 1.5,
+                    "Expected reservation throughput on one product to scale with threads");
+        }
+    }
+
+    private double measureReservations(int threads) throws InterruptedException {
+        ProductRepository productRepository = mock(ProductRepository.class);
+        Product product = new Product("Flash sale product", 9.99);
+        product.setId(1L);
+        product.setStock(Long.MAX_VALUE / 2);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        StockProperties properties = new StockProperties();
+        properties.setStripes(threads);
+        StockService stockService = new StockService(productRepository,
+                new ShardRouter(new ShardProperties(), productRepository),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new ProductCache(new ProductBatchProperties()), properties, new SimpleMeterRegistry());
+        stockService.getStock(1L);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        LongAdder reservations = new LongAdder();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(SECONDS);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < end) {
+                    StockReservation reservation = stockService.reserve(1L, 1);
+                    stockService.commit(reservation.id());
+                    reservations.increment();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(SECONDS + 60L, TimeUnit.SECONDS);
+        return reservations.sum() / ((System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,90 @@
+package com.myproject.storemanager.shard;
+
+import com.myproject.storemanager.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ShardRouterTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ShardRouter shardRouter;
+
+    @BeforeEach
+    public void setup() {
+        ShardProperties properties = new ShardProperties();
+        properties.setCount(4);
+        shardRouter = new ShardRouter(properties, productRepository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        shardRouter.shutdown();
+    }
+
+    @Test
+    public void testNextId_isRoutedBackToItsShard() {
+        for (int i = 0; i < 100; i++) {
+            int shard = shardRouter.nextShard();
+            long id = shardRouter.nextId(shard);
+            Assertions.assertEquals(shard, shardRouter.shardFor(id));
+        }
+    }
+
+    @Test
+    public void testNextId_continuesAfterExistingIdsOnShard() {
+        when(productRepository.findMaxId()).thenReturn(41L);
+
+        Assertions.assertEquals(42L, shardRouter.nextId(2));
+        Assertions.assertEquals(46L, shardRouter.nextId(2));
+    }
+
+    @Test
+    public void testNextId_isUniqueUnderConcurrency() {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 10_000).parallel()
+                .forEach(i -> Assertions.assertTrue(ids.add(shardRouter.nextId(shardRouter.nextShard()))));
+
+        Assertions.assertEquals(10_000, ids.size());
+    }
+
+    @Test
+    public void testNextId_neverHandsOutUnseededIdsWhileIdsAreReset() throws Exception {
+        when(productRepository.findMaxId()).thenReturn(100L);
+        Thread resetter = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                shardRouter.resetIds();
+            }
+        });
+        resetter.start();
+
+        IntStream.range(0, 20_000).parallel()
+                .forEach(i -> Assertions.assertTrue(shardRouter.nextId(i % 4) > 100));
+        resetter.join();
+    }
+
+    @Test
+    public void testFanOut_queriesEveryShardAndMergesInOrder() {
+        List<Integer> result = shardRouter.fanOut(() -> List.of(ShardContext.current(), ShardContext.current() + 10),
+                Comparator.naturalOrder());
+
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 10, 11, 12, 13), result);
+        Assertions.assertNull(ShardContext.current());
+    }
+}
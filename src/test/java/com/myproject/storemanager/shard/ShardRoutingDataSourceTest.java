@@ -0,0 +1,30 @@
+package com.myproject.storemanager.shard;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+public class ShardRoutingDataSourceTest {
+
+    @Test
+    public void testClose_closesEveryShardPool() throws Exception {
+        DataSource first = mock(DataSource.class, withSettings().extraInterfaces(Closeable.class));
+        DataSource second = mock(DataSource.class, withSettings().extraInterfaces(Closeable.class));
+        ShardRoutingDataSource dataSource = new ShardRoutingDataSource();
+        dataSource.setTargetDataSources(Map.of(0, first, 1, second));
+        dataSource.setDefaultTargetDataSource(first);
+        dataSource.afterPropertiesSet();
+
+        dataSource.close();
+
+        verify((Closeable) first, times(1)).close();
+        verify((Closeable) second, times(1)).close();
+    }
+}
@@ -0,0 +1,71 @@
+package com.myproject.storemanager.snapshot;
+
+import com.myproject.storemanager.exception.CatalogSnapshotException;
+import com.myproject.storemanager.model.Product;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CatalogSnapshotFormatTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testWriteAndRead_roundTripsAllProducts() throws Exception {
+        List<Product> products = new ArrayList<>();
+        for (long i = 1; i <= 10_000; i++) {
+            Product product = new Product("Product " + i + " é", i * 1.5);
+            product.setId(i);
+            product.setStock(i % 3 == 0 ? null : i * 10);
+            products.add(product);
+        }
+        Product withoutPrice = new Product("No price", null);
+        withoutPrice.setId(10_001L);
+        products.add(withoutPrice);
+
+        List<Product> restored = new ArrayList<>();
+        long count = CatalogSnapshotFormat.read(write(products), restored::add);
+
+        Assertions.assertEquals(products.size(), count);
+        Assertions.assertEquals(products.size(), restored.size());
+        for (int i = 0; i < products.size(); i++) {
+            Assertions.assertEquals(products.get(i).getId(), restored.get(i).getId());
+            Assertions.assertEquals(products.get(i).getName(), restored.get(i).getName());
+            Assertions.assertEquals(products.get(i).getPrice(), restored.get(i).getPrice());
+            Assertions.assertEquals(products.get(i).getStock(), restored.get(i).getStock());
+        }
+    }
+
+    @Test
+    public void testRead_whenSnapshotIsCorrupted() throws Exception {
+        Product product = new Product("Test Product", 100.0);
+        product.setId(1L);
+        ByteBuffer snapshot = write(List.of(product));
+        snapshot.put(CatalogSnapshotFormat.HEADER_SIZE + 1, (byte) 42);
+
+        CatalogSnapshotException exception = Assertions.assertThrows(CatalogSnapshotException.class,
+                () -> CatalogSnapshotFormat.read(snapshot, p -> {}));
+
+        Assertions.assertEquals("Snapshot checksum does not match its content", exception.getMessage());
+    }
+
+    private ByteBuffer write(List<Product> products) throws Exception {
+        Path file = directory.resolve("catalog.snapshot");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             CatalogSnapshotFormat.Writer writer = new CatalogSnapshotFormat.Writer(channel, System.currentTimeMillis())) {
+            for (Product product : products) {
+                writer.write(product);
+            }
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(file));
+    }
+}
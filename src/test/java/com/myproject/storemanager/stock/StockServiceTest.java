@@ -0,0 +1,99 @@
+package com.myproject.storemanager.stock;
+
+import com.myproject.storemanager.exception.InsufficientStockException;
+import com.myproject.storemanager.exception.ReservationNotFoundException;
+import com.myproject.storemanager.model.Product;
+import com.myproject.storemanager.repository.ProductRepository;
+import com.myproject.storemanager.service.ProductBatchProperties;
+import com.myproject.storemanager.service.ProductCache;
+import com.myproject.storemanager.shard.ShardProperties;
+import com.myproject.storemanager.shard.ShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StockServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StockProperties properties;
+    private Product product;
+
+    @BeforeEach
+    public void setup() {
+        properties = new StockProperties();
+        properties.setStripes(4);
+        product = new Product("Test Product", 100.0);
+        product.setId(1L);
+        product.setStock(10L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+    }
+
+    @Test
+    public void testCommit_writesDeltaOnFlush() {
+        StockService stockService = stockService();
+
+        StockReservation reservation = stockService.reserve(1L, 3);
+        stockService.commit(reservation.id());
+        stockService.flush();
+
+        Assertions.assertEquals(7, stockService.getStock(1L).available());
+        verify(productRepository, times(1)).addStock(1L, -3L);
+    }
+
+    @Test
+    public void testReserve_whenStockIsExhausted() {
+        StockService stockService = stockService();
+        stockService.reserve(1L, 8);
+
+        Assertions.assertThrows(InsufficientStockException.class, () -> stockService.reserve(1L, 3));
+        Assertions.assertEquals(2, stockService.getStock(1L).available());
+    }
+
+    @Test
+    public void testRelease_returnsUnitsWithoutWriting() {
+        StockService stockService = stockService();
+
+        StockReservation reservation = stockService.reserve(1L, 4);
+        stockService.release(reservation.id());
+        stockService.flush();
+
+        Assertions.assertEquals(10, stockService.getStock(1L).available());
+        Assertions.assertThrows(ReservationNotFoundException.class, () -> stockService.commit(reservation.id()));
+        verify(productRepository, never()).addStock(anyLong(), anyLong());
+    }
+
+    @Test
+    public void testExpireReservations_returnsUnitsOfExpiredReservations() {
+        properties.setReservationTtl(Duration.ZERO);
+        StockService stockService = stockService();
+
+        StockReservation reservation = stockService.reserve(1L, 10);
+        stockService.expireReservations();
+
+        Assertions.assertEquals(10, stockService.getStock(1L).available());
+        Assertions.assertThrows(ReservationNotFoundException.class, () -> stockService.commit(reservation.id()));
+    }
+
+    private StockService stockService() {
+        return new StockService(productRepository, new ShardRouter(new ShardProperties(), productRepository),
+                new TransactionTemplate(transactionManager), new ProductCache(new ProductBatchProperties()),
+                properties, new SimpleMeterRegistry());
+    }
+}
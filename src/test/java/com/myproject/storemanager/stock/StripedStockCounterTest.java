@@ -0,0 +1,71 @@
+package com.myproject.storemanager.stock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class StripedStockCounterTest {
+
+    @Test
+    public void testTryAcquire_neverOversellsUnderContention() throws Exception {
+        int threads = 16;
+        long stock = 10_000;
+        StripedStockCounter counter = new StripedStockCounter(stock, 8, 64);
+        int attempts = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int quantity = i % 3 + 1;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long acquired = 0;
+                    // A fixed number of attempts, so the loop ends even if releases keep the counter from draining
+                    for (int attempt = 0; attempt < attempts; attempt++) {
+                        if (counter.tryAcquire(quantity)) {
+                            acquired += quantity;
+                            if (attempt % 7 == 0) {
+                                counter.release(quantity);
+                                acquired -= quantity;
+                            }
+                        }
+                    }
+                    return acquired;
+                }));
+            }
+            start.countDown();
+
+            long acquired = 0;
+            for (Future<Long> result : results) {
+                acquired += result.get(30, TimeUnit.SECONDS);
+            }
+
+            Assertions.assertTrue(acquired <= stock, "Acquired " + acquired + " units out of " + stock);
+            Assertions.assertEquals(stock, acquired + counter.available());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTryAcquire_gathersUnitsParkedInOtherStripes() throws Exception {
+        StripedStockCounter counter = new StripedStockCounter(10, 4, 64);
+
+        Thread other = new Thread(() -> Assertions.assertTrue(counter.tryAcquire(1)));
+        other.start();
+        other.join();
+
+        Assertions.assertTrue(counter.tryAcquire(9));
+        Assertions.assertFalse(counter.tryAcquire(1));
+        Assertions.assertEquals(0, counter.available());
+    }
+}